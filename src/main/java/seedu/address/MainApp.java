@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -12,25 +13,36 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.CommandHistory;
+import seedu.address.model.DeferredAddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.IndexedAddressBookReader;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonSpilledVersionStore;
+import seedu.address.storage.JsonUndoJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TxtCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteAheadLogAddressBookStorage;
+import seedu.address.storage.WriteBehindService;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -60,10 +72,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = createAddressBookStorage(userPrefs);
         CommandHistoryStorage commandHistoryStorage = new TxtCommandHistoryStorage(
-                userPrefs.getCommandHistoryFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+                userPrefs.getCommandHistoryFilePath(), userPrefs.shouldCompressDataFiles());
+        // Data is saved in the background, so that commands do not wait for the disk
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage,
+                new WriteBehindService());
 
         model = initModelManager(storage, userPrefs);
 
@@ -72,6 +86,45 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Creates the storage for the data file. If the write-ahead log is enabled in {@code userPrefs}, changes are
+     * appended to a log next to the data file, which is only rewritten when the log is compacted.
+     */
+    private AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookStorage snapshotStorage = createSnapshotStorage(userPrefs);
+        Path logFile = WriteAheadLogAddressBookStorage.getLogFilePath(userPrefs.getAddressBookFilePath());
+        // A log left from when the log was enabled is still replayed, and is then compacted by the first save
+        if (userPrefs.getMaxWriteAheadLogBytes() > 0 || Files.exists(logFile)) {
+            return new WriteAheadLogAddressBookStorage(snapshotStorage, userPrefs.getMaxWriteAheadLogBytes());
+        }
+        return snapshotStorage;
+    }
+
+    /**
+     * Creates the storage for the data file in the format chosen in {@code userPrefs}, first converting the data
+     * file if it is in another format.
+     */
+    private AddressBookStorage createSnapshotStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        try {
+            if (AddressBookFormatConverter.convertIfNeeded(filePath, format)) {
+                logger.info("Converted data file " + filePath + " to the " + format + " format");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to the " + format + " format: "
+                    + StringUtil.getDetails(e));
+        }
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath, userPrefs.shouldCompressDataFiles());
+        default:
+            return new JsonAddressBookStorage(filePath, userPrefs.shouldCompressDataFiles());
+        }
+    }
+
     /**
      * Loads the {@code AddressBook} from storage.
      * <p>
@@ -96,6 +149,30 @@ public class MainApp extends Application {
         }
     }
 
+    /**
+     * Opens the data file without loading it in full, if it is an uncompressed JSON file of at least the size set in
+     * {@code userPrefs}, and its write-ahead log has no changes that would have to be replayed onto it.
+     * Returns {@code Optional.empty()} if the data file is to be loaded in full instead.
+     */
+    private Optional<DeferredAddressBook> openDeferredAddressBook(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Path filePath = storage.getAddressBookFilePath();
+        Path logFile = WriteAheadLogAddressBookStorage.getLogFilePath(filePath);
+        try {
+            if (userPrefs.getAddressBookFormat() != AddressBookFormat.JSON || !Files.exists(filePath)
+                    || Files.size(filePath) < userPrefs.getLazyLoadThresholdBytes()
+                    || Files.exists(logFile) && Files.size(logFile) > 0
+                    || FileUtil.isCompressed(filePath)) {
+                return Optional.empty();
+            }
+            return IndexedAddressBookReader.open(filePath, IndexedAddressBookReader.DEFAULT_MAX_CACHED_PERSONS)
+                    .map(DeferredAddressBook.class::cast);
+        } catch (IOException | DataLoadingException e) {
+            logger.warning("Data file at " + filePath + " could not be opened without loading it in full: "
+                    + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
     /**
      * Loads the {@code CommandHistory} from storage.
      * <p>
@@ -133,14 +210,40 @@ public class MainApp extends Application {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
         logger.info("Using data file : " + storage.getCommandHistoryFilePath());
 
-        ReadOnlyAddressBook initialData = loadAddressBook(storage);
+        boolean hasDataFile = Files.exists(storage.getAddressBookFilePath());
+        Optional<DeferredAddressBook> deferredData = openDeferredAddressBook(storage, userPrefs);
+        ReadOnlyAddressBook initialData = deferredData.isPresent() ? deferredData.get() : loadAddressBook(storage);
         CommandHistory initialHist = loadCommandHistory(storage);
 
-        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = createModelManager(storage, initialData, userPrefs, hasDataFile);
         modelManager.setCommandHistory(initialHist);
         return modelManager;
     }
 
+    /**
+     * Creates the {@code ModelManager}, restoring its undo history from the undo journal next to the data file.
+     * <p>
+     * The journal is only restored if the data file existed, since it describes the history of that file.
+     * If the journal cannot be used, the undo history starts empty and is kept for this session only,
+     * with older versions spilled next to the data file rather than kept in memory.
+     */
+    private ModelManager createModelManager(Storage storage, ReadOnlyAddressBook initialData,
+            ReadOnlyUserPrefs userPrefs, boolean hasDataFile) {
+        Path dataDirectory = storage.getAddressBookFilePath().toAbsolutePath().getParent();
+        Path journalFile = JsonUndoJournal.getJournalFilePath(storage.getAddressBookFilePath().toAbsolutePath());
+        try {
+            if (!hasDataFile) {
+                Files.deleteIfExists(journalFile);
+            }
+            JsonUndoJournal journal = new JsonUndoJournal(journalFile, initialData.getPersonList());
+            return new ModelManager(initialData, userPrefs, journal);
+        } catch (IOException e) {
+            logger.warning("Undo journal at " + journalFile + " could not be opened."
+                    + " Undo history will not be kept after this session.");
+            return new ModelManager(initialData, userPrefs, new JsonSpilledVersionStore(dataDirectory));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -230,5 +333,15 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            // An address book that was never loaded in full is unchanged, so the data file is already compact
+            if (model.isAddressBookLoaded()) {
+                storage.compactAddressBook(model.getAddressBook());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
+        // Wait for data saved in the background, since its thread does not keep the application alive
+        storage.flush();
     }
 }
@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +24,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 8192;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -67,17 +81,171 @@ public class FileUtil {
 
     /**
      * Assumes file exists
+     * @see #newInputStream(Path)
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        try (InputStream in = newInputStream(file)) {
+            return new String(in.readAllBytes(), CHARSET);
+        }
+    }
+
+    /**
+     * Opens a buffered stream to read the contents of a file. Files written compressed by
+     * {@link #writeToFile(Path, ContentWriter, boolean)} are recognised by their header and decompressed as they are
+     * read, so callers need not know whether the file is compressed.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            if (hasCompressedHeader(in)) {
+                return new BufferedInputStream(new GZIPInputStream(in, BUFFER_SIZE), BUFFER_SIZE);
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    /**
+     * Returns true if the file exists and its contents are compressed.
+     */
+    public static boolean isCompressed(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return false;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return hasCompressedHeader(in);
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip header, without consuming any of it.
+     */
+    private static boolean hasCompressedHeader(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first != -1 && second != -1 && (first | second << 8) == GZIPInputStream.GZIP_MAGIC;
     }
 
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * @see #writeToFile(Path, byte[])
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Writes given bytes to a file, replacing its contents atomically. The bytes are written to a temporary file
+     * next to it, which is forced to the disk and then renamed over the file, so a crash while writing leaves
+     * either the old contents or the new ones, never a mix of both.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        writeToFile(file, out -> out.write(content));
+    }
+
+    /**
+     * Writes the contents produced by {@code writer} to a file through a buffered stream, replacing its contents
+     * atomically like {@link #writeToFile(Path, byte[])}. The contents are never held in memory as a whole.
+     * {@code writer} must not close the stream.
+     */
+    public static void writeToFile(Path file, ContentWriter writer) throws IOException {
+        writeToFile(file, writer, false);
+    }
+
+    /**
+     * Writes the contents produced by {@code writer} to a file like {@link #writeToFile(Path, ContentWriter)},
+     * compressing them as they are written if {@code isCompressed} is true.
+     */
+    public static void writeToFile(Path file, ContentWriter writer, boolean isCompressed) throws IOException {
+        createParentDirsOfFile(file);
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                if (isCompressed) {
+                    // Closing the compressor frees its native memory, but must leave the file open to be forced
+                    // Small writes are gathered before they reach the compressor, which handles each one separately
+                    try (OutputStream compressedOut = new BufferedOutputStream(
+                            new GZIPOutputStream(new UnclosableOutputStream(out), BUFFER_SIZE), BUFFER_SIZE)) {
+                        writer.writeTo(compressedOut);
+                    }
+                } else {
+                    writer.writeTo(out);
+                }
+                out.flush();
+                // Without this, the rename may reach the disk before the contents do
+                channel.force(true);
+            }
+            moveAtomically(temp, file);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+            throw e;
+        }
+        forceParentDir(file);
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step where the file system allows it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entries of the parent directory of {@code file} to the disk, so that a rename into it
+     * survives a crash. Does nothing on platforms where directories cannot be opened.
+     */
+    private static void forceParentDir(Path file) {
+        Path parentDir = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(parentDir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened on some platforms, where renames are made durable by the file system
+        }
+    }
+
+    /**
+     * An output stream that flushes, rather than closes, the stream it wraps when it is closed.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+    }
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -1,8 +1,10 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,15 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -33,6 +41,8 @@ public class JsonUtil {
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            // Files are written through streams that must stay open until they are forced to the disk
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
             .registerModule(new SimpleModule("SimpleModule")
@@ -40,12 +50,15 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFile(jsonFile, out ->
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.newInputStream(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -92,6 +105,149 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Saves a JSON object whose field {@code arrayFieldName} holds the given elements to the specified file.
+     * The elements are written to the file one at a time, so they need not all be in memory at once.
+     * @param elements cannot be null, and is iterated over once.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements)
+            throws IOException {
+        saveJsonArrayFile(filePath, arrayFieldName, elements, false);
+    }
+
+    /**
+     * Saves a JSON object like {@link #saveJsonArrayFile(Path, String, Iterable)}, compressing the file as it is
+     * written if {@code isCompressed} is true.
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<T> elements,
+            boolean isCompressed) throws IOException {
+        requireAllNonNull(filePath, arrayFieldName, elements);
+
+        // Flushing after every element would make each one a separate write to the disk
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (T element : elements) {
+                    elementWriter.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        }, isCompressed);
+    }
+
+    /**
+     * Reads the elements of the array in field {@code arrayFieldName} of the JSON object in the given file, and
+     * passes each one to {@code handler} as soon as it is parsed, so they need not all be in memory at once.
+     * Other fields of the object are skipped.
+     *
+     * @return false if the file is not found, and true otherwise.
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if {@code handler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<T> handler) throws DataLoadingException, IllegalValueException {
+        requireAllNonNull(filePath, arrayFieldName, elementClass, handler);
+        return visitJsonArrayFile(filePath, arrayFieldName, parser ->
+                handler.handle(objectMapper.readValue(parser, elementClass)));
+    }
+
+    /**
+     * Finds the objects in the array in field {@code arrayFieldName} of the JSON object in the given file, and
+     * passes the byte offsets of the start and the end of each one to {@code handler}, without converting them.
+     * The bytes between the offsets can later be read from the file and converted with {@link #fromJsonString}.
+     *
+     * @return false if the file is not found, and true otherwise.
+     * @throws DataLoadingException if the file is compressed, could not be read or is not in the expected format.
+     */
+    public static boolean indexJsonArrayFile(Path filePath, String arrayFieldName, ElementLocationHandler handler)
+            throws DataLoadingException {
+        requireAllNonNull(filePath, arrayFieldName, handler);
+        try {
+            if (FileUtil.isCompressed(filePath)) {
+                throw new DataLoadingException(new IOException("Compressed file " + filePath + " has no offsets."));
+            }
+            return visitJsonArrayFile(filePath, arrayFieldName, parser -> {
+                expectToken(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                long startOffset = parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                handler.handle(startOffset, parser.getTokenLocation().getByteOffset() + 1);
+            });
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the name of the first field of the JSON object in the given file, reading no further than that.
+     * Returns {@code Optional.empty()} if the file is not found or the object has no fields.
+     *
+     * @throws DataLoadingException if the file could not be read or does not start with a JSON object.
+     */
+    public static Optional<String> readFirstFieldName(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = FileUtil.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            return parser.nextToken() == JsonToken.FIELD_NAME ? Optional.of(parser.getCurrentName()) : Optional.empty();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Passes {@code visitor} a parser positioned at the start of each element of the array in field
+     * {@code arrayFieldName} of the JSON object in the given file. Returns false if the file is not found.
+     */
+    private static boolean visitJsonArrayFile(Path filePath, String arrayFieldName, ElementVisitor visitor)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = FileUtil.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isArrayField = parser.getCurrentName().equals(arrayFieldName);
+                JsonToken value = parser.nextToken();
+                if (!isArrayField || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                expectToken(parser, value, JsonToken.START_ARRAY);
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, "Unexpected end of file in " + arrayFieldName);
+                    }
+                    visitor.visit(parser);
+                }
+            }
+            expectToken(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +267,40 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a compact JSON data string representation, without whitespace
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a single-line string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Handles an element read from a JSON array.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Handles the location in a file of an element of a JSON array.
+     */
+    @FunctionalInterface
+    public interface ElementLocationHandler {
+        void handle(long startOffset, long endOffset);
+    }
+
+    /**
+     * Reads an element of a JSON array from a parser positioned at its first token.
+     */
+    @FunctionalInterface
+    private interface ElementVisitor {
+        void visit(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
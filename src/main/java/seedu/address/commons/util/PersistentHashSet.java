@@ -0,0 +1,454 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable hash set whose updates return a new set sharing all untouched structure with the original.
+ * Elements are kept in a hash array mapped trie, so {@link #plus(Object)} and {@link #minus(Object)} copy only the
+ * nodes on the path to the affected element instead of the whole set.
+ * <p>
+ * As with {@link java.util.HashSet#add(Object)}, adding an element equal to one already present leaves the set
+ * unchanged and keeps the existing element. Null elements are not permitted. Mutators inherited from
+ * {@link java.util.Set} throw {@code UnsupportedOperationException}.
+ */
+public final class PersistentHashSet<E> extends AbstractSet<E> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    // Deep enough for one level per 5 hash bits, plus a collision node below the last level
+    private static final int MAX_DEPTH = 8;
+
+    private static final PersistentHashSet<?> EMPTY = new PersistentHashSet<>(null, 0, 0);
+
+    private final Node root;
+    private final int size;
+    // Sum of element hash codes, as defined by Set#hashCode(), maintained across updates
+    private final int hash;
+
+    private PersistentHashSet(Node root, int size, int hash) {
+        this.root = root;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> empty() {
+        return (PersistentHashSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set containing the elements of {@code elements}.
+     * If {@code elements} is already a {@code PersistentHashSet}, it is returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentHashSet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentHashSet) {
+            return (PersistentHashSet<E>) elements;
+        }
+        return PersistentHashSet.<E>empty().plusAll(elements);
+    }
+
+    /**
+     * Returns a set containing the elements of this set and {@code element},
+     * or this set if it already contains an element equal to {@code element}.
+     */
+    public PersistentHashSet<E> plus(E element) {
+        requireNonNull(element);
+        int elementHash = element.hashCode();
+        if (root == null) {
+            return new PersistentHashSet<>(BitmapNode.of(element, elementHash, 0), 1, elementHash);
+        }
+        Node newRoot = root.plus(element, elementHash, 0);
+        return newRoot == root ? this : new PersistentHashSet<>(newRoot, size + 1, hash + elementHash);
+    }
+
+    /**
+     * Returns a set containing the elements of this set and of {@code elements}.
+     */
+    public PersistentHashSet<E> plusAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        PersistentHashSet<E> result = this;
+        for (E element : elements) {
+            result = result.plus(element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a set containing the elements of this set except the one equal to {@code element},
+     * or this set if it contains no such element.
+     */
+    public PersistentHashSet<E> minus(Object element) {
+        requireNonNull(element);
+        if (root == null) {
+            return this;
+        }
+        int elementHash = element.hashCode();
+        Node newRoot = root.minus(element, elementHash, 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentHashSet<>(newRoot, size - 1, hash - elementHash);
+    }
+
+    /**
+     * Returns a set containing the elements of this set except those equal to an element of {@code elements}.
+     */
+    public PersistentHashSet<E> minusAll(Collection<?> elements) {
+        requireNonNull(elements);
+        PersistentHashSet<E> result = this;
+        for (Object element : elements) {
+            result = result.minus(element);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element != null && root != null && root.contains(element, element.hashCode(), 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TrieIterator<>(root);
+    }
+
+    // The mutators below throw even when the call would leave the set unchanged, as unmodifiable JDK sets do
+
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof PersistentHashSet) {
+            PersistentHashSet<?> otherSet = (PersistentHashSet<?>) other;
+            if (root == otherSet.root) {
+                return true;
+            }
+            if (size != otherSet.size || hash != otherSet.hash) {
+                return false;
+            }
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int fragment(int hash, int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    /**
+     * Returns a node holding both {@code first} and {@code second}, which are not equal, at level {@code shift}.
+     */
+    private static Node merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (firstHash == secondHash) {
+            return new CollisionNode(firstHash, new Object[] {first, second});
+        }
+        int firstFragment = fragment(firstHash, shift);
+        int secondFragment = fragment(secondHash, shift);
+        if (firstFragment == secondFragment) {
+            Node child = merge(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL);
+            return new BitmapNode(1 << firstFragment, new Object[] {child});
+        }
+        Object[] slots = firstFragment < secondFragment
+                ? new Object[] {first, second}
+                : new Object[] {second, first};
+        return new BitmapNode((1 << firstFragment) | (1 << secondFragment), slots);
+    }
+
+    /**
+     * Returns the only element held by {@code node}, or null if it holds more than one.
+     */
+    private static Object soleElement(Node node) {
+        Object[] slots = node.slots();
+        return slots.length == 1 && !(slots[0] instanceof Node) ? slots[0] : null;
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value) {
+        Object[] copy = new Object[array.length + 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(array, index, copy, index + 1, array.length - index);
+        return copy;
+    }
+
+    private static Object[] replace(Object[] array, int index, Object value) {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static Object[] delete(Object[] array, int index) {
+        Object[] copy = new Object[array.length - 1];
+        System.arraycopy(array, 0, copy, 0, index);
+        System.arraycopy(array, index + 1, copy, index, array.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * A node of the trie. Updates never modify a node; they return a new node, or the same node if nothing changed.
+     */
+    private interface Node {
+        boolean contains(Object element, int hash, int shift);
+
+        Node plus(Object element, int hash, int shift);
+
+        /** Returns null if the node would become empty. */
+        Node minus(Object element, int hash, int shift);
+
+        /** Returns the node's slots, each of which is either an element or a child {@code Node}. */
+        Object[] slots();
+    }
+
+    /**
+     * A node whose slots are indexed by 5 bits of the element hashes, with a bitmap recording which are occupied.
+     */
+    private static final class BitmapNode implements Node {
+        private final int bitmap;
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        static BitmapNode of(Object element, int hash, int shift) {
+            return new BitmapNode(1 << fragment(hash, shift), new Object[] {element});
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public boolean contains(Object element, int hash, int shift) {
+            int bit = 1 << fragment(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return false;
+            }
+            Object slot = slots[indexOf(bit)];
+            if (slot instanceof Node) {
+                return ((Node) slot).contains(element, hash, shift + BITS_PER_LEVEL);
+            }
+            return slot.equals(element);
+        }
+
+        @Override
+        public Node plus(Object element, int hash, int shift) {
+            int bit = 1 << fragment(hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                return new BitmapNode(bitmap | bit, insert(slots, index, element));
+            }
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.plus(element, hash, shift + BITS_PER_LEVEL);
+                return newChild == child ? this : new BitmapNode(bitmap, replace(slots, index, newChild));
+            }
+            if (slot.equals(element)) {
+                return this;
+            }
+            Node merged = merge(slot, slot.hashCode(), element, hash, shift + BITS_PER_LEVEL);
+            return new BitmapNode(bitmap, replace(slots, index, merged));
+        }
+
+        @Override
+        public Node minus(Object element, int hash, int shift) {
+            int bit = 1 << fragment(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = indexOf(bit);
+            Object slot = slots[index];
+            if (slot instanceof Node) {
+                Node child = (Node) slot;
+                Node newChild = child.minus(element, hash, shift + BITS_PER_LEVEL);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild == null) {
+                    return withoutSlot(bit, index);
+                }
+                // Pull a lone remaining element up so the trie stays as shallow as its contents require
+                Object sole = soleElement(newChild);
+                return new BitmapNode(bitmap, replace(slots, index, sole != null ? sole : newChild));
+            }
+            return slot.equals(element) ? withoutSlot(bit, index) : this;
+        }
+
+        private Node withoutSlot(int bit, int index) {
+            return slots.length == 1 ? null : new BitmapNode(bitmap & ~bit, delete(slots, index));
+        }
+
+        @Override
+        public Object[] slots() {
+            return slots;
+        }
+    }
+
+    /**
+     * A node holding unequal elements that have the same hash code.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] elements;
+
+        CollisionNode(int hash, Object[] elements) {
+            this.hash = hash;
+            this.elements = elements;
+        }
+
+        private int indexOf(Object element) {
+            for (int i = 0; i < elements.length; i++) {
+                if (elements[i].equals(element)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object element, int hash, int shift) {
+            return this.hash == hash && indexOf(element) >= 0;
+        }
+
+        @Override
+        public Node plus(Object element, int hash, int shift) {
+            if (this.hash != hash) {
+                // Nest this node under a bitmap node that tells the two hashes apart
+                Node wrapper = new BitmapNode(1 << fragment(this.hash, shift), new Object[] {this});
+                return wrapper.plus(element, hash, shift);
+            }
+            if (indexOf(element) >= 0) {
+                return this;
+            }
+            return new CollisionNode(hash, insert(elements, elements.length, element));
+        }
+
+        @Override
+        public Node minus(Object element, int hash, int shift) {
+            int index = this.hash == hash ? indexOf(element) : -1;
+            if (index < 0) {
+                return this;
+            }
+            return elements.length == 1 ? null : new CollisionNode(hash, delete(elements, index));
+        }
+
+        @Override
+        public Object[] slots() {
+            return elements;
+        }
+    }
+
+    /**
+     * Visits the elements of a trie depth-first, keeping the slot arrays along the current path on a stack.
+     */
+    private static final class TrieIterator<E> implements Iterator<E> {
+        private final Object[][] path = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth = -1;
+        private E next;
+
+        TrieIterator(Node root) {
+            if (root != null) {
+                push(root);
+            }
+            advance();
+        }
+
+        private void push(Node node) {
+            depth++;
+            path[depth] = node.slots();
+            positions[depth] = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                if (positions[depth] == path[depth].length) {
+                    path[depth] = null;
+                    depth--;
+                    continue;
+                }
+                Object slot = path[depth][positions[depth]++];
+                if (slot instanceof Node) {
+                    push((Node) slot);
+                } else {
+                    next = (E) slot;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            E current = next;
+            advance();
+            return current;
+        }
+    }
+}
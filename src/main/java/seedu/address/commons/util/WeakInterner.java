@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * A pool of canonical instances of an immutable type, so that values which are interchangeable share one instance.
+ * The pool only holds its instances weakly; an instance no longer referenced elsewhere is collected and its entry
+ * is dropped from the pool on a later call.
+ * <p>
+ * Instances are considered interchangeable according to the given hash and equivalence functions rather than
+ * {@code equals}, since a type's {@code equals} may ignore state (such as letter case) that callers can observe.
+ */
+public class WeakInterner<T> {
+
+    private final ToIntFunction<? super T> hasher;
+    private final BiPredicate<? super T, ? super T> equivalence;
+    private final Map<Integer, List<Entry<T>>> entriesByHash = new HashMap<>();
+    private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+    /**
+     * Creates a pool in which instances are interchangeable if they are equal according to {@code equals}.
+     */
+    public WeakInterner() {
+        this(Object::hashCode, Object::equals);
+    }
+
+    /**
+     * Creates a pool in which two instances are interchangeable if {@code equivalence} holds for them.
+     * {@code hasher} must return the same value for any two interchangeable instances.
+     */
+    public WeakInterner(ToIntFunction<? super T> hasher, BiPredicate<? super T, ? super T> equivalence) {
+        requireNonNull(hasher);
+        requireNonNull(equivalence);
+        this.hasher = hasher;
+        this.equivalence = equivalence;
+    }
+
+    /**
+     * Returns the pooled instance interchangeable with {@code value}, pooling {@code value} itself if there is none.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        expungeCollectedEntries();
+        int hash = hasher.applyAsInt(value);
+        List<Entry<T>> entries = entriesByHash.computeIfAbsent(hash, unused -> new ArrayList<>(1));
+        for (Entry<T> entry : entries) {
+            T pooled = entry.get();
+            if (pooled != null && equivalence.test(pooled, value)) {
+                return pooled;
+            }
+        }
+        entries.add(new Entry<>(value, hash, collected));
+        return value;
+    }
+
+    /**
+     * Returns the number of instances in the pool that have not been collected yet.
+     */
+    public synchronized int size() {
+        expungeCollectedEntries();
+        int size = 0;
+        for (List<Entry<T>> entries : entriesByHash.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    private void expungeCollectedEntries() {
+        for (Reference<? extends T> reference = collected.poll(); reference != null; reference = collected.poll()) {
+            Entry<?> entry = (Entry<?>) reference;
+            List<Entry<T>> entries = entriesByHash.get(entry.hash);
+            if (entries == null) {
+                continue;
+            }
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                entriesByHash.remove(entry.hash);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a pooled instance that remembers the hash it is filed under,
+     * so it can be found again once the instance has been collected.
+     */
+    private static class Entry<T> extends WeakReference<T> {
+        private final int hash;
+
+        Entry(T referent, int hash, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            this.hash = hash;
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.MutatingCommandWords;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -25,6 +33,9 @@ import seedu.address.storage.Storage;
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
 
+    public static final String FILE_LOAD_ERROR_FORMAT =
+            "Could not load all the data to change it due to the following error: %s";
+
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
@@ -33,6 +44,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // Changes made by commands since the address book was last saved, including those of commands that failed
+    private ChangeSet.Builder unsavedChanges = new ChangeSet.Builder();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -49,10 +62,26 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (canChangeAddressBook(command)) {
+            loadAddressBook();
+        }
+        long modificationCountBefore = model.getAddressBookModificationCount();
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            ChangeSet changes = model.publishChangeSet();
+            unsavedChanges.include(changes);
+            logger.fine(() -> "Command changed " + changes.size() + " person(s)");
+        }
+
+        // Commands such as list and find leave the address book as it is, so rewriting the file can be skipped
+        boolean hasChanged = model.getAddressBookModificationCount() != modificationCountBefore;
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (hasChanged) {
+                storage.saveAddressBookChanges(model.getAddressBook(), unsavedChanges.build());
+                unsavedChanges = new ChangeSet.Builder();
+            }
 
             //add user input into Command History
             model.addCommandToHistory(commandText);
@@ -64,16 +93,41 @@ public class LogicManager implements Logic {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
 
-        // If the executed command is a mutating command,
+        // If the executed command is a mutating command that changed the address book,
         // commit the current state of the address book to the versioned history.
         // This ensures that undo/redo operations will work correctly
-        if (MutatingCommandWords.contains(command.getCommandWord())) {
+        if (hasChanged && MutatingCommandWords.contains(command.getCommandWord())) {
             model.commit();
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns true if {@code command} may change the address book, which must then be loaded in full.
+     */
+    private static boolean canChangeAddressBook(Command command) {
+        String commandWord = command.getCommandWord();
+        return MutatingCommandWords.contains(commandWord) || commandWord.equals(UndoCommand.COMMAND_WORD)
+                || commandWord.equals(RedoCommand.COMMAND_WORD) || commandWord.equals(ClearCommand.COMMAND_WORD);
+    }
+
+    private void loadAddressBook() throws CommandException {
+        try {
+            model.loadAddressBook();
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(FILE_LOAD_ERROR_FORMAT, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setWriteFailureHandler(ioe -> handler.accept(ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage())));
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -17,7 +17,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -157,10 +156,8 @@ public class AddAssignmentCommand extends Command {
         Phone updatedPhone = personToEdit.getPhone();
         Level updatedLevel = personToEdit.getLevel();
         Set<ClassGroup> updatedClassGroup = personToEdit.getClassGroups();
-        Set<Assignment> updatedAssignments = Stream.concat(
-                personToEdit.getAssignments().stream(),
-                addAssignmentDescriptor.getAssignments().orElse(Set.of()).stream()
-        ).collect(Collectors.toSet());
+        Set<Assignment> updatedAssignments = personToEdit.getAssignments()
+                .plusAll(addAssignmentDescriptor.getAssignments().orElse(Set.of()));
 
 
         return new Person(updatedName, updatedPhone, updatedLevel, updatedClassGroup, updatedAssignments);
@@ -15,7 +15,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -112,10 +111,8 @@ public class AddClassCommand extends Command {
         Level updatedLevel = personToEdit.getLevel();
         Set<Assignment> updatedAssignments = personToEdit.getAssignments();
 
-        Set<ClassGroup> updatedClasses = Stream.concat(
-                personToEdit.getClassGroups().stream(),
-                addClassDescriptor.getClassGroups().orElse(Set.of()).stream()
-        ).collect(Collectors.toSet());
+        Set<ClassGroup> updatedClasses = personToEdit.getClassGroups()
+                .plusAll(addClassDescriptor.getClassGroups().orElse(Set.of()));
 
         return new Person(updatedName, updatedPhone, updatedLevel , updatedClasses, updatedAssignments);
     }
@@ -9,11 +9,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSGROUP;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
@@ -68,12 +65,8 @@ public class AssignAllCommand extends Command {
         logger.info("Executing AssignAllCommand for class group: " + classGroupName
                 + ", assignment: " + assignment.getAssignmentName());
 
-        List<Person> fullList = model.getAddressBook().getPersonList();
-
-        // Filter students who have the specified class group
-        List<Person> studentsInClass = fullList.stream()
-                .filter(person -> hasClassGroup(person, classGroupName))
-                .collect(Collectors.toList());
+        // Only the members of the class group are visited, not the whole student list
+        Set<Person> studentsInClass = model.getPersonsInClassGroup(classGroupName);
 
         logger.fine(() -> String.format("Found %d student(s) in class group '%s'",
                 studentsInClass.size(), classGroupName));
@@ -127,19 +120,6 @@ public class AssignAllCommand extends Command {
                 assignment.getAssignmentName(), assignedCount, classGroupName));
     }
 
-    /**
-     * Checks if the person has a class group with the specified name.
-     *
-     * @param person The person to check.
-     * @param classGroupName The name of the class group to look for.
-     * @return true if the person has a class group with the specified name, false otherwise.
-     */
-    private boolean hasClassGroup(Person person, String classGroupName) {
-        return person.getClassGroups().stream()
-                .map(ClassGroup::getClassGroupName)
-                .anyMatch(name -> name.equalsIgnoreCase(classGroupName));
-    }
-
     /**
      * Creates and returns a {@code Person} with the assignment added to their existing assignments.
      *
@@ -154,10 +134,7 @@ public class AssignAllCommand extends Command {
         Phone phone = person.getPhone();
         Level level = person.getLevel();
         Set<ClassGroup> classGroups = person.getClassGroups();
-        Set<Assignment> updatedAssignments = Stream.concat(
-                person.getAssignments().stream(),
-                Stream.of(assignment)
-        ).collect(Collectors.toSet());
+        Set<Assignment> updatedAssignments = person.getAssignments().plus(assignment);
 
         return new Person(name, phone, level, classGroups, updatedAssignments);
     }
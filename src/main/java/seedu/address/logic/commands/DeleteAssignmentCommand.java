@@ -102,9 +102,10 @@ public class DeleteAssignmentCommand extends Command {
      * Returns the intersection of the person's current assignments and those requested for deletion.
      */
     private static Set<Assignment> findDeletableAssignments(Person person, DeleteAssignmentDescriptor desc) {
-        Set<Assignment> newAssignments = desc.getAssignments().orElse(Set.of());
-        return person.getAssignments().stream()
-                .filter(newAssignments::contains)
+        Set<Assignment> requested = desc.getAssignments().orElse(Set.of());
+        Set<Assignment> existing = person.getAssignments();
+        return requested.stream()
+                .filter(existing::contains)
                 .collect(Collectors.toSet());
     }
 
@@ -132,7 +133,6 @@ public class DeleteAssignmentCommand extends Command {
         Phone updatedPhone = personToEdit.getPhone();
         Level updatedLevel = personToEdit.getLevel();
         Set<ClassGroup> updatedClassGroup = personToEdit.getClassGroups();
-        Set<Assignment> allAssignments = new HashSet<>(personToEdit.getAssignments());
         Set<Assignment> toDelete = findDeletableAssignments(personToEdit, deleteAssignmentDescriptor);
         Set<Assignment> nonExistent = findNonExistentAssignments(personToEdit, deleteAssignmentDescriptor);
 
@@ -144,8 +144,7 @@ public class DeleteAssignmentCommand extends Command {
             throw new CommandException(String.format(MESSAGE_ASSIGNMENT_NOT_EXIST, missingNames));
         }
 
-        Set<Assignment> updatedAssignments = new HashSet<>(allAssignments);
-        updatedAssignments.removeAll(toDelete);
+        Set<Assignment> updatedAssignments = personToEdit.getAssignments().minusAll(toDelete);
 
         return new Person(updatedName, updatedPhone, updatedLevel, updatedClassGroup, updatedAssignments);
     }
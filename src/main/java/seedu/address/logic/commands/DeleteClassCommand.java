@@ -140,7 +140,6 @@ public class DeleteClassCommand extends Command {
         Name updatedName = personToEdit.getName();
         Phone updatedPhone = personToEdit.getPhone();
         Level updatedLevel = personToEdit.getLevel();
-        Set<ClassGroup> currentClasses = new HashSet<>(personToEdit.getClassGroups());
         Set<ClassGroup> toDelete = findDeletableClasses(personToEdit, deleteClassDescriptor);
         Set<ClassGroup> nonExistent = findNonExistentClasses(personToEdit, deleteClassDescriptor);
 
@@ -152,16 +151,17 @@ public class DeleteClassCommand extends Command {
             throw new CommandException(String.format(MESSAGE_CLASS_NOT_FOUND, missingNames));
         }
 
-        currentClasses.removeAll(toDelete);
+        Set<ClassGroup> currentClasses = personToEdit.getClassGroups().minusAll(toDelete);
 
         // Remove assignments associated with deleted class groups
         Set<String> deletedClassGroupNames = toDelete.stream()
                 .map(ClassGroup::getClassGroupName)
                 .collect(Collectors.toSet());
 
-        Set<Assignment> updatedAssignments = personToEdit.getAssignments().stream()
-                .filter(assignment -> !deletedClassGroupNames.contains(assignment.classGroupName))
+        Set<Assignment> deletedAssignments = personToEdit.getAssignments().stream()
+                .filter(assignment -> deletedClassGroupNames.contains(assignment.classGroupName))
                 .collect(Collectors.toSet());
+        Set<Assignment> updatedAssignments = personToEdit.getAssignments().minusAll(deletedAssignments);
 
         return new Person(
                 updatedName,
@@ -35,7 +35,9 @@ public class FilterByClassGroupCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Members come from the class group index, so the filter is a membership test that follows later changes
+        model.updateFilteredPersonList(new IndexedMatchPredicate(model,
+                () -> model.getPersonsInClassGroup(predicate.getClassGroup())));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -29,7 +29,9 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        // Matches come from the name word index, so the filter is a membership test that follows later changes
+        model.updateFilteredPersonList(new IndexedMatchPredicate(model,
+                () -> model.getPersonsWithNameMatchingAny(predicate.getKeywords())));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
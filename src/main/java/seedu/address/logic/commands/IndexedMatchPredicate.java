@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * A filter that matches the persons looked up from one of the model's indexes, such as the members of a class
+ * group, so that the person list is filtered by set membership rather than by testing every person.
+ * The persons are looked up again once the address book has changed, including by undo and redo, so that the
+ * filter keeps matching the persons the lookup would find at that point. The address book updates its indexes
+ * before it reports a change to its persons, so the lookup is already current when the changed persons are tested.
+ */
+class IndexedMatchPredicate implements Predicate<Person> {
+
+    private final Model model;
+    private final Supplier<Set<Person>> lookup;
+    private Set<Person> matches;
+    private long matchedModificationCount;
+
+    /**
+     * Creates a filter over the persons of {@code model} that {@code lookup} finds.
+     */
+    IndexedMatchPredicate(Model model, Supplier<Set<Person>> lookup) {
+        requireAllNonNull(model, lookup);
+        this.model = model;
+        this.lookup = lookup;
+        matches = lookup.get();
+        matchedModificationCount = model.getAddressBookModificationCount();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != matchedModificationCount) {
+            matches = lookup.get();
+            matchedModificationCount = modificationCount;
+        }
+        return matches.contains(person);
+    }
+}
@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.PersistentHashSet;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -84,6 +85,10 @@ public class MarkAssignmentCommand extends Command {
         List<Person> alreadyMarkedPersons = new ArrayList<>();
         List<Person> peopleToMark = new ArrayList<>();
 
+        // Holders of the assignment, split by completion, so each target is validated without a scan
+        Set<Person> markedHolders = model.getPersonsWithMarkedAssignment(assignment);
+        Set<Person> unmarkedHolders = model.getPersonsWithUnmarkedAssignment(assignment);
+
         // First validate indices and collect people to mark
         for (Index targetIndex : targetIndices) {
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -91,19 +96,13 @@ public class MarkAssignmentCommand extends Command {
             }
 
             Person personToMark = lastShownList.get(targetIndex.getZeroBased());
-            Set<Assignment> personAssignments = getPersonAssignmentSet(personToMark);
-            ensureAssignmentExists(personAssignments, personToMark);
 
-            // Check if the assignment is already marked
-            Assignment match = personAssignments.stream()
-                    .filter(a -> a.equals(assignment))
-                    .findAny()
-                    .orElse(null);
-
-            if (match != null && match.isMarked()) {
+            if (markedHolders.contains(personToMark)) {
                 alreadyMarkedPersons.add(personToMark);
-            } else {
+            } else if (unmarkedHolders.contains(personToMark)) {
                 peopleToMark.add(personToMark);
+            } else {
+                ensureAssignmentExists(getPersonAssignmentSet(personToMark), personToMark);
             }
         }
 
@@ -114,19 +113,17 @@ public class MarkAssignmentCommand extends Command {
 
         // Mark assignments for people who aren't already marked
         for (Person personToMark : peopleToMark) {
-            Set<Assignment> personAssignments = getPersonAssignmentSet(personToMark);
-            Set<Assignment> updatedAssignments = createUpdatedAssignmentSet(personAssignments);
+            PersistentHashSet<Assignment> personAssignments = getPersonAssignmentSet(personToMark);
 
             // Find and mark the assignment
-            Assignment match = updatedAssignments.stream()
+            Assignment match = personAssignments.stream()
                     .filter(a -> a.equals(assignment))
                     .findAny()
                     .orElse(null);
 
             if (match != null && !match.isMarked()) {
                 Assignment markedAssignment = match.mark();
-                updatedAssignments.remove(match);
-                updatedAssignments.add(markedAssignment);
+                Set<Assignment> updatedAssignments = personAssignments.minus(match).plus(markedAssignment);
 
                 // Create updated person with new assignments
                 Person updatedPerson = personToMark.withAssignments(updatedAssignments);
@@ -141,7 +138,7 @@ public class MarkAssignmentCommand extends Command {
     /**
      * Returns the set of assignments for the given person.
      */
-    private Set<Assignment> getPersonAssignmentSet(Person person) {
+    private PersistentHashSet<Assignment> getPersonAssignmentSet(Person person) {
         return person.getAssignments();
     }
 
@@ -180,13 +177,6 @@ public class MarkAssignmentCommand extends Command {
         return sb.toString();
     }
 
-    /**
-     * Creates a new mutable set of assignments with the same contents as the input set.
-     */
-    private Set<Assignment> createUpdatedAssignmentSet(Set<Assignment> originalAssignments) {
-        return new java.util.HashSet<>(originalAssignments);
-    }
-
     /**
      * Finds the matching Assignment instance in the given set and marks it.
      *
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.versionmanager.exceptions.HistoryMismatchException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
 
 /**
@@ -18,7 +19,7 @@ public class RedoCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         try {
             model.redo();
-        } catch (NoPreviousUndoException e) {
+        } catch (NoPreviousUndoException | HistoryMismatchException e) {
             throw new CommandException(e.getMessage());
         }
         return new CommandResult(MESSAGE_SUCCESS);
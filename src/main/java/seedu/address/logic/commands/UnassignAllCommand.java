@@ -9,9 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASSGROUP;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -72,12 +70,8 @@ public class UnassignAllCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> fullList = model.getAddressBook().getPersonList();
-
-        // Filter students who have the specified class group
-        List<Person> studentsInClass = fullList.stream()
-                .filter(person -> hasClassGroup(person, classGroupName))
-                .collect(Collectors.toList());
+        // Only the members of the class group are visited, not the whole student list
+        Set<Person> studentsInClass = model.getPersonsInClassGroup(classGroupName);
 
         if (studentsInClass.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_CLASS_NOT_EXIST,
@@ -111,20 +105,6 @@ public class UnassignAllCommand extends Command {
                 assignment.getAssignmentName(), unassignedCount, classGroupName));
     }
 
-    /**
-     * Checks if the person has a class group with the specified name.
-     * The comparison is case-insensitive.
-     *
-     * @param person The person to check. Must not be null.
-     * @param classGroupName The name of the class group to look for. Must not be null.
-     * @return true if the person has a class group with the specified name (case-insensitive), false otherwise.
-     */
-    private boolean hasClassGroup(Person person, String classGroupName) {
-        return person.getClassGroups().stream()
-                .map(ClassGroup::getClassGroupName)
-                .anyMatch(name -> name.equalsIgnoreCase(classGroupName));
-    }
-
     /**
      * Creates and returns a {@code Person} with the assignment removed from their existing assignments.
      * All other fields (name, phone, level, class groups) remain unchanged.
@@ -140,9 +120,7 @@ public class UnassignAllCommand extends Command {
         Phone phone = person.getPhone();
         Level level = person.getLevel();
         Set<ClassGroup> classGroups = person.getClassGroups();
-        Set<Assignment> updatedAssignments = person.getAssignments().stream()
-                .filter(a -> !a.equals(assignment))
-                .collect(Collectors.toSet());
+        Set<Assignment> updatedAssignments = person.getAssignments().minus(assignment);
 
         return new Person(name, phone, level, classGroups, updatedAssignments);
     }
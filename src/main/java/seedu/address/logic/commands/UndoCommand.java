@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.versionmanager.exceptions.HistoryMismatchException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 
 /**
@@ -16,7 +17,7 @@ public class UndoCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         try {
             model.undo();
-        } catch (NoPreviousCommitException e) {
+        } catch (NoPreviousCommitException | HistoryMismatchException e) {
             throw new CommandException(e.getMessage());
         }
         return new CommandResult(MESSAGE_SUCCESS);
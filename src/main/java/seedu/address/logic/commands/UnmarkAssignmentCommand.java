@@ -15,6 +15,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.PersistentHashSet;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -84,6 +85,10 @@ public class UnmarkAssignmentCommand extends Command {
         List<Person> alreadyUnmarkedPersons = new ArrayList<>();
         List<Person> peopleToUnmark = new ArrayList<>();
 
+        // Holders of the assignment, split by completion, so each target is validated without a scan
+        Set<Person> markedHolders = model.getPersonsWithMarkedAssignment(assignment);
+        Set<Person> unmarkedHolders = model.getPersonsWithUnmarkedAssignment(assignment);
+
         // First validate indices and collect people to unmark
         for (Index targetIndex : targetIndices) {
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -91,19 +96,13 @@ public class UnmarkAssignmentCommand extends Command {
             }
 
             Person personToUnmark = lastShownList.get(targetIndex.getZeroBased());
-            Set<Assignment> personAssignments = getPersonAssignmentSet(personToUnmark);
-            ensureAssignmentExists(personAssignments, personToUnmark);
 
-            // Check if the assignment is already unmarked
-            Assignment match = personAssignments.stream()
-                    .filter(a -> a.equals(assignment))
-                    .findAny()
-                    .orElse(null);
-
-            if (match != null && !match.isMarked()) {
+            if (unmarkedHolders.contains(personToUnmark)) {
                 alreadyUnmarkedPersons.add(personToUnmark);
-            } else {
+            } else if (markedHolders.contains(personToUnmark)) {
                 peopleToUnmark.add(personToUnmark);
+            } else {
+                ensureAssignmentExists(getPersonAssignmentSet(personToUnmark), personToUnmark);
             }
         }
 
@@ -114,19 +113,17 @@ public class UnmarkAssignmentCommand extends Command {
 
         // Unmark assignments for people who aren't already unmarked
         for (Person personToUnmark : peopleToUnmark) {
-            Set<Assignment> personAssignments = getPersonAssignmentSet(personToUnmark);
-            Set<Assignment> updatedAssignments = createUpdatedAssignmentSet(personAssignments);
+            PersistentHashSet<Assignment> personAssignments = getPersonAssignmentSet(personToUnmark);
 
             // Find and unmark the assignment
-            Assignment match = updatedAssignments.stream()
+            Assignment match = personAssignments.stream()
                     .filter(a -> a.equals(assignment))
                     .findAny()
                     .orElse(null);
 
             if (match != null && match.isMarked()) {
                 Assignment unmarkedAssignment = match.unmark();
-                updatedAssignments.remove(match);
-                updatedAssignments.add(unmarkedAssignment);
+                Set<Assignment> updatedAssignments = personAssignments.minus(match).plus(unmarkedAssignment);
 
                 // Create updated person with new assignments
                 Person updatedPerson = personToUnmark.withAssignments(updatedAssignments);
@@ -141,7 +138,7 @@ public class UnmarkAssignmentCommand extends Command {
     /**
      * Returns the set of assignments for the given person.
      */
-    private Set<Assignment> getPersonAssignmentSet(Person person) {
+    private PersistentHashSet<Assignment> getPersonAssignmentSet(Person person) {
         return person.getAssignments();
     }
 
@@ -180,13 +177,6 @@ public class UnmarkAssignmentCommand extends Command {
         return sb.toString();
     }
 
-    /**
-     * Creates a new mutable set of assignments with the same contents as the input set.
-     */
-    private Set<Assignment> createUpdatedAssignmentSet(Set<Assignment> originalAssignments) {
-        return new java.util.HashSet<>(originalAssignments);
-    }
-
     /**
      * Finds the matching Assignment instance in the given set and unmarks it.
      *
@@ -3,13 +3,21 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.AssignmentIndex;
+import seedu.address.model.classgroup.ClassGroupIndex;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameWordIndex;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -18,6 +26,11 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ClassGroupIndex classGroupIndex = new ClassGroupIndex();
+    private final AssignmentIndex assignmentIndex = new AssignmentIndex();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final StudentColumns studentColumns = new StudentColumns();
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -47,7 +60,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.setPersons(persons);
+        replacePersons(replacement);
     }
 
     /**
@@ -56,6 +71,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            // Another AddressBook has already enforced uniqueness, so its list can be copied as is.
+            replacePersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -90,9 +110,34 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        if (persons.contains(p)) {
+            throw new DuplicatePersonException();
+        }
+        index(p);
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code position} in the person list.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int position, Person p) {
+        if (persons.contains(p)) {
+            throw new DuplicatePersonException();
+        }
+        Objects.checkIndex(position, persons.asUnmodifiableObservableList().size() + 1);
+        index(p);
+        persons.add(position, p);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -100,7 +145,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        if (persons.indexOf(target) == -1) {
+            throw new PersonNotFoundException();
+        }
+        if (!target.isSamePerson(editedPerson) && persons.contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
 
+        unindex(target);
+        index(editedPerson);
         persons.setPerson(target, editedPerson);
     }
 
@@ -109,9 +162,96 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        if (persons.indexOf(key) == -1) {
+            throw new PersonNotFoundException();
+        }
+        unindex(key);
         persons.remove(key);
     }
 
+    /**
+     * Returns the persons in the class group named {@code classGroupName}, ignoring case.
+     * Only the members of that class group are visited.
+     */
+    public Set<Person> getPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        return classGroupIndex.getMembers(classGroupName);
+    }
+
+    /**
+     * Returns the persons who hold {@code assignment} and have marked it as completed.
+     */
+    public Set<Person> getPersonsWithMarkedAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return assignmentIndex.getMarked(assignment);
+    }
+
+    /**
+     * Returns the persons who hold {@code assignment} but have not marked it as completed.
+     */
+    public Set<Person> getPersonsWithUnmarkedAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return assignmentIndex.getUnmarked(assignment);
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameWordIndex.getPersonsMatchingAny(keywords);
+    }
+
+    /**
+     * Returns a column-oriented view of the persons, for aggregate queries over a single attribute.
+     * The view reflects later changes to this address book.
+     */
+    public ReadOnlyStudentColumns getStudentColumns() {
+        return studentColumns;
+    }
+
+    /**
+     * Returns a count that increases whenever the persons in this address book change.
+     * Comparing it before and after an operation tells whether the operation changed anything.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    // Every change to the persons goes through index, unindex or replacePersons, which count it as a modification.
+    // The lookup indexes and columns do not observe the persons, so this is the only place that keeps them in step.
+    // They are updated before the person list itself, so that listeners of the list, such as filtered views that
+    // look persons up by index, already see the new indexes and count when the list reports the change.
+    private void index(Person person) {
+        modificationCount++;
+        classGroupIndex.add(person);
+        assignmentIndex.add(person);
+        nameWordIndex.add(person);
+        studentColumns.add(person);
+    }
+
+    private void unindex(Person person) {
+        modificationCount++;
+        classGroupIndex.remove(person);
+        assignmentIndex.remove(person);
+        nameWordIndex.remove(person);
+        studentColumns.remove(person);
+    }
+
+    /**
+     * Rebuilds the lookup indexes from {@code replacement}, which is known to be unique, and then replaces the
+     * person list with it.
+     */
+    private void replacePersons(UniquePersonList replacement) {
+        modificationCount++;
+        classGroupIndex.clear();
+        assignmentIndex.clear();
+        nameWordIndex.clear();
+        studentColumns.clear();
+        replacement.forEach(this::index);
+        persons.setPersons(replacement);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum AddressBookFormat {
+    /** Indented JSON, which can be read and edited by hand. */
+    JSON,
+    /** A compact binary encoding, which is smaller and faster to load and save. */
+    BINARY,
+    /** A manifest with one JSON segment file per class group, so that saves rewrite only the changed segments. */
+    SHARDED
+}
@@ -0,0 +1,276 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The net changes made to the persons of the address book by a single command: the persons added, the persons
+ * removed, and the persons replaced together with their replacements.
+ * <p>
+ * Persons are tracked by identity rather than by {@link Person#equals}, since an edit such as marking an assignment
+ * produces a person that is equal to the original. Changes that cancel out within a command, such as adding a
+ * person and then removing it, are left out.
+ * Guarantees: immutable.
+ */
+public class ChangeSet {
+
+    public static final ChangeSet EMPTY = new ChangeSet(List.of(), List.of(), List.of());
+
+    private final List<Person> added;
+    private final List<Person> removed;
+    private final List<Replacement> replaced;
+
+    private ChangeSet(List<Person> added, List<Person> removed, List<Replacement> replaced) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.replaced = Collections.unmodifiableList(replaced);
+    }
+
+    /**
+     * Returns the persons that were added, in the order they were added.
+     */
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the persons that were removed, as they were before the command.
+     */
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the persons that were replaced, each with the person that replaces it after the command.
+     */
+    public List<Replacement> getReplaced() {
+        return replaced;
+    }
+
+    /**
+     * Returns true if the command made no net change to the persons of the address book.
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && replaced.isEmpty();
+    }
+
+    /**
+     * Returns the number of persons added, removed or replaced.
+     */
+    public int size() {
+        return added.size() + removed.size() + replaced.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeSet)) {
+            return false;
+        }
+
+        ChangeSet otherChangeSet = (ChangeSet) other;
+        return added.equals(otherChangeSet.added)
+                && removed.equals(otherChangeSet.removed)
+                && replaced.equals(otherChangeSet.replaced);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, replaced);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("added", added)
+                .add("removed", removed)
+                .add("replaced", replaced)
+                .toString();
+    }
+
+    /**
+     * A person that was replaced, and the person that replaces it.
+     * Guarantees: immutable.
+     */
+    public static class Replacement {
+        private final Person target;
+        private final Person edited;
+
+        /**
+         * Constructs a {@code Replacement} of {@code target} by {@code edited}.
+         */
+        public Replacement(Person target, Person edited) {
+            requireAllNonNull(target, edited);
+            this.target = target;
+            this.edited = edited;
+        }
+
+        public Person getTarget() {
+            return target;
+        }
+
+        public Person getEdited() {
+            return edited;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Replacement)) {
+                return false;
+            }
+
+            Replacement otherReplacement = (Replacement) other;
+            return target.equals(otherReplacement.target) && edited.equals(otherReplacement.edited);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, edited);
+        }
+
+        @Override
+        public String toString() {
+            return target + " -> " + edited;
+        }
+    }
+
+    /**
+     * Accumulates the changes made by a command into a {@code ChangeSet}, cancelling out changes that undo
+     * one another.
+     */
+    public static class Builder {
+        // Persons in the address book that were added or replaced, each mapped to the person it replaced,
+        // or to nothing if it was added
+        private final Map<Identity, Optional<Person>> current = new LinkedHashMap<>();
+        private final Map<Identity, Person> removed = new LinkedHashMap<>();
+
+        /**
+         * Records that {@code person} was added.
+         */
+        public Builder add(Person person) {
+            requireNonNull(person);
+            // A person removed and then added back is unchanged
+            if (removed.remove(new Identity(person)) == null) {
+                current.put(new Identity(person), Optional.empty());
+            }
+            return this;
+        }
+
+        /**
+         * Records that {@code person} was removed.
+         */
+        public Builder remove(Person person) {
+            requireNonNull(person);
+            Optional<Person> original = current.remove(new Identity(person));
+            if (original == null) {
+                removed.put(new Identity(person), person);
+            } else {
+                // If the person replaced another one, that one is the person really removed
+                original.ifPresent(replaced -> removed.put(new Identity(replaced), replaced));
+            }
+            return this;
+        }
+
+        /**
+         * Records that {@code target} was replaced by {@code edited}.
+         */
+        public Builder replace(Person target, Person edited) {
+            requireAllNonNull(target, edited);
+            Optional<Person> original = current.remove(new Identity(target));
+            if (original == null) {
+                original = Optional.of(target);
+            }
+            // A person replaced and then replaced back is unchanged
+            if (original.isEmpty() || original.get() != edited) {
+                current.put(new Identity(edited), original);
+            }
+            return this;
+        }
+
+        /**
+         * Records that the persons {@code before} were all replaced by the persons {@code after}.
+         * Persons in both lists are unchanged.
+         */
+        public Builder reset(List<Person> before, List<Person> after) {
+            requireAllNonNull(before, after);
+            before.forEach(this::remove);
+            after.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Records the changes in {@code changes}, as made after the changes recorded so far.
+         */
+        public Builder include(ChangeSet changes) {
+            requireNonNull(changes);
+            changes.removed.forEach(this::remove);
+            changes.replaced.forEach(replacement -> replace(replacement.target, replacement.edited));
+            changes.added.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Returns true if no net change has been recorded.
+         */
+        public boolean isEmpty() {
+            return current.isEmpty() && removed.isEmpty();
+        }
+
+        /**
+         * Returns the changes recorded so far.
+         */
+        public ChangeSet build() {
+            List<Person> addedPersons = new ArrayList<>();
+            List<Replacement> replacements = new ArrayList<>();
+            current.forEach((identity, original) -> {
+                if (original.isPresent()) {
+                    replacements.add(new Replacement(original.get(), identity.person));
+                } else {
+                    addedPersons.add(identity.person);
+                }
+            });
+            return new ChangeSet(addedPersons, new ArrayList<>(removed.values()), replacements);
+        }
+    }
+
+    /**
+     * Wraps a person so that it is compared by identity.
+     */
+    private static class Identity {
+        private final Person person;
+
+        Identity(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Identity && ((Identity) other).person == person;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(person);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.model;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * An address book whose persons are read from storage as they are needed, rather than all at once.
+ * Its person list can be viewed and searched, but the address book must be loaded in full before it can be changed.
+ */
+public interface DeferredAddressBook extends ReadOnlyAddressBook {
+
+    /**
+     * Reads all the persons into a new {@code AddressBook}.
+     *
+     * @throws DataLoadingException if the persons could not be read.
+     */
+    AddressBook load() throws DataLoadingException;
+
+    /**
+     * Lets go of any persons kept since {@link #load()}, once the person list of this address book is no longer read.
+     */
+    void release();
+
+}
@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of the persons of a {@link DeferredAddressBook} that is switched over to the persons of the address book
+ * it is loaded into, so that lists derived from this view, such as the filtered person list, outlive the switch.
+ * After the switch, changes to the loaded persons are passed on to the listeners of this view.
+ */
+class DeferredPersonList extends ObservableListBase<Person> {
+
+    private List<Person> source;
+
+    DeferredPersonList(List<Person> deferredPersons) {
+        requireNonNull(deferredPersons);
+        source = deferredPersons;
+    }
+
+    /**
+     * Switches this view over to {@code loadedPersons}, which must hold the same persons as the deferred ones.
+     */
+    void switchTo(ObservableList<Person> loadedPersons) {
+        requireNonNull(loadedPersons);
+        // The deferred persons are not read again, since the loaded ones are equal to them
+        List<Person> replaced = new ArrayList<>(loadedPersons);
+        source = loadedPersons;
+        loadedPersons.addListener(this::sourceChanged);
+
+        beginChange();
+        nextReplace(0, loadedPersons.size(), replaced);
+        endChange();
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+}
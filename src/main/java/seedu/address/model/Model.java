@@ -1,10 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
@@ -51,9 +56,27 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
-    /** Returns the AddressBook */
+    /**
+     * Returns the AddressBook. If the address book has not been loaded in full, this is a
+     * {@link DeferredAddressBook} whose persons are read as they are needed.
+     */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns true if all the persons of the address book are in memory, so that it can be changed.
+     */
+    default boolean isAddressBookLoaded() {
+        return true;
+    }
+
+    /**
+     * Loads the address book in full, if it has not been loaded yet. Changing the address book loads it as well,
+     * but cannot report a failure to load it.
+     *
+     * @throws DataLoadingException if the address book could not be loaded.
+     */
+    default void loadAddressBook() throws DataLoadingException {}
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +92,31 @@ public interface Model {
      */
     boolean hasPhone(Phone phone);
 
+    /**
+     * Returns the persons in the class group named {@code classGroupName}, ignoring case.
+     */
+    Set<Person> getPersonsInClassGroup(String classGroupName);
+
+    /**
+     * Returns the persons who hold {@code assignment} and have marked it as completed.
+     */
+    Set<Person> getPersonsWithMarkedAssignment(Assignment assignment);
+
+    /**
+     * Returns the persons who hold {@code assignment} but have not marked it as completed.
+     */
+    Set<Person> getPersonsWithUnmarkedAssignment(Assignment assignment);
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     */
+    Set<Person> getPersonsWithNameMatchingAny(List<String> keywords);
+
+    /**
+     * Returns a column-oriented view of the persons in the address book, for aggregate queries.
+     */
+    ReadOnlyStudentColumns getStudentColumns();
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -112,6 +160,35 @@ public interface Model {
      */
     void redo();
 
+    /**
+     * Returns the number of committed versions that can be undone, including those spilled out of memory.
+     */
+    int getUndoableVersionCount();
+
+    /**
+     * Returns the estimated memory held by the undo history, in bytes.
+     * Together with {@link #getUndoableVersionCount()}, it shows how close the history is to the limits set in
+     * the user preferences.
+     */
+    long getUndoHistoryEstimatedBytes();
+
+    /**
+     * Returns a count that increases whenever the persons in the address book change, including by undo and redo.
+     * Comparing it before and after a command tells whether the command changed anything.
+     */
+    long getAddressBookModificationCount();
+
+    /**
+     * Returns the net changes made to the persons of the address book since the last call, and passes them to
+     * every listener added with {@link #addChangeSetListener}. Called at the end of every command.
+     */
+    ChangeSet publishChangeSet();
+
+    /**
+     * Adds a listener to be given the changes made by each command when they are published.
+     */
+    void addChangeSetListener(Consumer<ChangeSet> listener);
+
     /** Injects an instance of Command History to model */
     void setCommandHistory(CommandHistory commandHistory);
 
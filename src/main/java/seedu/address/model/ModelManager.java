@@ -4,6 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,10 +17,16 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.assignment.Assignment;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.StudentInClassGroupPredicate;
 import seedu.address.model.versionmanager.AddressBookVersionManager;
+import seedu.address.model.versionmanager.SpilledVersionStore;
+import seedu.address.model.versionmanager.UndoJournal;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -27,19 +39,60 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final AddressBookVersionManager versions;
     private final CommandHistory history = new CommandHistory();
+    private final List<Consumer<ChangeSet>> changeSetListeners = new ArrayList<>();
+    private ChangeSet.Builder changes = new ChangeSet.Builder();
+
+    // Until the address book is needed in full, persons are read on demand from the deferred address book
+    private Optional<DeferredAddressBook> deferredAddressBook = Optional.empty();
+    private Optional<DeferredPersonList> deferredPersons = Optional.empty();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
+     * A {@link DeferredAddressBook} is only loaded in full once the address book is to be changed, or is needed
+     * in full in another way.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, new AddressBookVersionManager(userPrefs.getMaxUndoVersions(),
+                userPrefs.getMaxUndoHistoryBytes()));
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose older undo history
+     * is spilled to {@code spillStore} instead of being kept in memory.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            SpilledVersionStore spillStore) {
+        this(addressBook, userPrefs, new AddressBookVersionManager(userPrefs.getMaxUndoVersions(),
+                userPrefs.getMaxUndoHistoryBytes(), userPrefs.getMaxUndoVersionsInMemory(), spillStore));
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, whose undo history is recorded to
+     * and restored from {@code journal}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, UndoJournal journal) {
+        this(addressBook, userPrefs, new AddressBookVersionManager(userPrefs.getMaxUndoVersions(),
+                userPrefs.getMaxUndoHistoryBytes(), userPrefs.getMaxUndoVersionsInMemory(), journal));
+    }
+
+    private ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            AddressBookVersionManager versions) {
+        requireAllNonNull(addressBook, userPrefs, versions);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.versions = new AddressBookVersionManager(addressBook);
+        this.versions = versions;
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        if (addressBook instanceof DeferredAddressBook) {
+            this.addressBook = new AddressBook();
+            DeferredPersonList persons = new DeferredPersonList(addressBook.getPersonList());
+            deferredAddressBook = Optional.of((DeferredAddressBook) addressBook);
+            deferredPersons = Optional.of(persons);
+            filteredPersons = new FilteredList<>(persons);
+        } else {
+            this.addressBook = new AddressBook(addressBook);
+            filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        }
     }
 
     public ModelManager() {
@@ -83,43 +136,137 @@ public class ModelManager implements Model {
 
     //=========== AddressBook ================================================================================
 
+    @Override
+    public boolean isAddressBookLoaded() {
+        return deferredAddressBook.isEmpty();
+    }
+
+    @Override
+    public void loadAddressBook() throws DataLoadingException {
+        if (deferredAddressBook.isEmpty()) {
+            return;
+        }
+
+        // Loading reads the same persons again, so it is neither a change nor an undoable version
+        DeferredAddressBook deferred = deferredAddressBook.get();
+        addressBook.resetData(deferred.load());
+        deferredPersons.get().switchTo(addressBook.getPersonList());
+        // The undo journal may still read the deferred persons, so it is matched against them before they go
+        versions.matchJournal();
+        deferred.release();
+        deferredAddressBook = Optional.empty();
+        deferredPersons = Optional.empty();
+        logger.info("Loaded all " + addressBook.getPersonList().size() + " person(s) of the address book");
+    }
+
+    /**
+     * Returns the address book, loading it in full first if needed.
+     * Callers that can report the failure call {@link #loadAddressBook()} beforehand instead.
+     */
+    private AddressBook getLoadedAddressBook() {
+        try {
+            loadAddressBook();
+        } catch (DataLoadingException e) {
+            throw new IllegalStateException("Address book could not be loaded: " + e.getMessage(), e);
+        }
+        return addressBook;
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        // The persons before the reset are recorded, so they must all be loaded
+        List<Person> before = new ArrayList<>(getLoadedAddressBook().getPersonList());
         this.addressBook.resetData(addressBook);
+        versions.recordReset(before, this.addressBook.getPersonList());
+        changes.reset(before, this.addressBook.getPersonList());
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return deferredAddressBook.isPresent() ? deferredAddressBook.get() : addressBook;
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return getLoadedAddressBook().hasPerson(person);
     }
 
     @Override
     public boolean hasName(Name name) {
         requireNonNull(name);
-        return addressBook.hasName(name);
+        return getLoadedAddressBook().hasName(name);
     }
 
     @Override
     public boolean hasPhone(Phone phone) {
         requireNonNull(phone);
-        return addressBook.hasPhone(phone);
+        return getLoadedAddressBook().hasPhone(phone);
     }
 
     @Override
-    public void deletePerson(Person target) {
+    public Set<Person> getPersonsInClassGroup(String classGroupName) {
+        requireNonNull(classGroupName);
+        if (deferredAddressBook.isPresent()) {
+            return findDeferredPersons(new StudentInClassGroupPredicate(classGroupName));
+        }
+        return addressBook.getPersonsInClassGroup(classGroupName);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithMarkedAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return getLoadedAddressBook().getPersonsWithMarkedAssignment(assignment);
+    }
 
+    @Override
+    public Set<Person> getPersonsWithUnmarkedAssignment(Assignment assignment) {
+        requireNonNull(assignment);
+        return getLoadedAddressBook().getPersonsWithUnmarkedAssignment(assignment);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        if (deferredAddressBook.isPresent()) {
+            return findDeferredPersons(new NameContainsKeywordsPredicate(keywords));
+        }
+        return addressBook.getPersonsWithNameMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the persons of the deferred address book that satisfy {@code predicate}, reading each person in turn
+     * rather than loading the address book in full.
+     */
+    private Set<Person> findDeferredPersons(Predicate<Person> predicate) {
+        Set<Person> matches = new LinkedHashSet<>();
+        for (Person person : deferredAddressBook.get().getPersonList()) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public ReadOnlyStudentColumns getStudentColumns() {
+        return getLoadedAddressBook().getStudentColumns();
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        AddressBook addressBook = getLoadedAddressBook();
+        int position = addressBook.indexOf(target);
         addressBook.removePerson(target);
+        versions.recordRemove(position, target);
+        changes.remove(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        getLoadedAddressBook().addPerson(person);
+        versions.recordAdd(person);
+        changes.add(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -127,7 +274,9 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        getLoadedAddressBook().setPerson(target, editedPerson);
+        versions.recordReplace(target, editedPerson);
+        changes.replace(target, editedPerson);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -167,19 +316,48 @@ public class ModelManager implements Model {
     //=========== AddressBookVersionManager =======================================================================
     @Override
     public void undo() {
-        ReadOnlyAddressBook previous = this.versions.undo();
-        setAddressBook(previous);
+        this.versions.undo(getLoadedAddressBook(), changes);
     }
 
     @Override
     public void commit() {
-        this.versions.commit(new AddressBook(getAddressBook()));
+        this.versions.commit();
+        logger.fine(String.format("Undo history: %d version(s), about %d bytes",
+                getUndoableVersionCount(), getUndoHistoryEstimatedBytes()));
     }
 
     @Override
     public void redo() {
-        ReadOnlyAddressBook next = this.versions.redo();
-        setAddressBook(next);
+        this.versions.redo(getLoadedAddressBook(), changes);
+    }
+
+    @Override
+    public int getUndoableVersionCount() {
+        return versions.getUndoableCount();
+    }
+
+    @Override
+    public long getUndoHistoryEstimatedBytes() {
+        return versions.getEstimatedBytes();
+    }
+
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
+    @Override
+    public ChangeSet publishChangeSet() {
+        ChangeSet changeSet = changes.build();
+        changes = new ChangeSet.Builder();
+        changeSetListeners.forEach(listener -> listener.accept(changeSet));
+        return changeSet;
+    }
+
+    @Override
+    public void addChangeSetListener(Consumer<ChangeSet> listener) {
+        requireNonNull(listener);
+        changeSetListeners.add(listener);
     }
 
     //=========== Command History ============================================================================
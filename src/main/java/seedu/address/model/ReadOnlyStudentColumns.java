@@ -0,0 +1,42 @@
+package seedu.address.model;
+
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * Unmodifiable column-oriented view of the students in an address book, for aggregate queries
+ * that scan a single attribute across all students.
+ */
+public interface ReadOnlyStudentColumns {
+
+    /**
+     * Returns the number of students.
+     */
+    int getStudentCount();
+
+    /**
+     * Returns the number of students at {@code level}.
+     */
+    int countAtLevel(int level);
+
+    /**
+     * Returns the number of students at {@code level} in the class group named {@code classGroupName},
+     * ignoring case.
+     */
+    int countAtLevelInClassGroup(int level, String classGroupName);
+
+    /**
+     * Returns the number of students in the class group named {@code classGroupName}, ignoring case.
+     */
+    int countInClassGroup(String classGroupName);
+
+    /**
+     * Returns the number of students who hold {@code assignment}, whether or not they have completed it.
+     */
+    int countHolding(Assignment assignment);
+
+    /**
+     * Returns the number of students who have marked {@code assignment} as completed.
+     */
+    int countCompleted(Assignment assignment);
+
+}
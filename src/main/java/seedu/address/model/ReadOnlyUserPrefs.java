@@ -13,4 +13,42 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format the data file is saved in.
+     */
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if JSON data files, including segment files, and the command history file are saved compressed.
+     * Files are read correctly whether or not they are compressed.
+     */
+    boolean shouldCompressDataFiles();
+
+    /**
+     * Returns the number of most recent commands that can be undone.
+     */
+    int getMaxUndoVersions();
+
+    /**
+     * Returns the approximate number of bytes the undo history may occupy before its oldest versions are discarded.
+     */
+    long getMaxUndoHistoryBytes();
+
+    /**
+     * Returns the number of most recent undoable commands kept in memory, with older ones spilled to disk.
+     */
+    int getMaxUndoVersionsInMemory();
+
+    /**
+     * Returns the number of bytes of changes the write-ahead log of the data file may hold before it is compacted
+     * into the data file. A limit of 0 disables the log, so that every save rewrites the data file.
+     */
+    long getMaxWriteAheadLogBytes();
+
+    /**
+     * Returns the size in bytes from which a JSON data file is opened without loading it in full, so that its
+     * persons are read as they are viewed or searched, until a command changes the address book.
+     */
+    long getLazyLoadThresholdBytes();
+
 }
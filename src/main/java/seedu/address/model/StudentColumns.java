@@ -0,0 +1,182 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.classgroup.ClassGroupIndex;
+import seedu.address.model.person.Person;
+
+/**
+ * Column-oriented mirror of the students in an address book.
+ * Each student occupies a row; levels are kept in a {@code byte[]} column, and class group membership and
+ * assignment completion in one {@code BitSet} per dictionary-encoded class group and assignment,
+ * so aggregate queries scan dense primitive data instead of following references from each {@code Person}.
+ * <p>
+ * The columns are derived data rather than a source of truth, and hold a row only for each person added to them.
+ * Rows freed by removed persons are reused; dictionary ids are only released by {@link #clear()}.
+ */
+public class StudentColumns implements ReadOnlyStudentColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Level column value of a row that holds no student, which is not a valid level
+    private static final byte NO_STUDENT = 0;
+
+    private final Map<Person, Integer> rows = new HashMap<>();
+    private final BitSet occupiedRows = new BitSet();
+    private byte[] levels = new byte[INITIAL_CAPACITY];
+    // One past the highest row that has ever been occupied since the last clear
+    private int rowLimit;
+
+    private final Map<String, Integer> classGroupIds = new HashMap<>();
+    private final List<BitSet> classGroupMembers = new ArrayList<>();
+
+    private final Map<Assignment, Integer> assignmentIds = new HashMap<>();
+    private final List<BitSet> assignmentHolders = new ArrayList<>();
+    private final List<BitSet> assignmentCompleters = new ArrayList<>();
+
+    /**
+     * Adds a row for {@code person}, who must not already have one.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !rows.containsKey(person) : "Person already has a row";
+
+        int row = occupiedRows.nextClearBit(0);
+        occupiedRows.set(row);
+        rows.put(person, row);
+        rowLimit = Math.max(rowLimit, row + 1);
+        if (row >= levels.length) {
+            levels = Arrays.copyOf(levels, Math.max(levels.length * 2, row + 1));
+        }
+
+        levels[row] = Byte.parseByte(person.getLevel().value);
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            classGroupMembers.get(classGroupIdOf(classGroup.getClassGroupName())).set(row);
+        }
+        for (Assignment assignment : person.getAssignments()) {
+            int id = assignmentIdOf(assignment);
+            assignmentHolders.get(id).set(row);
+            assignmentCompleters.get(id).set(row, assignment.isMarked());
+        }
+    }
+
+    /**
+     * Frees the row of {@code person}, if any.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer row = rows.remove(person);
+        if (row == null) {
+            return;
+        }
+
+        occupiedRows.clear(row);
+        levels[row] = NO_STUDENT;
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            Integer id = classGroupIds.get(ClassGroupIndex.toKey(classGroup.getClassGroupName()));
+            if (id != null) {
+                classGroupMembers.get(id).clear(row);
+            }
+        }
+        for (Assignment assignment : person.getAssignments()) {
+            Integer id = assignmentIds.get(assignment);
+            if (id != null) {
+                assignmentHolders.get(id).clear(row);
+                assignmentCompleters.get(id).clear(row);
+            }
+        }
+    }
+
+    /**
+     * Removes all rows and dictionary entries.
+     */
+    public void clear() {
+        rows.clear();
+        occupiedRows.clear();
+        levels = new byte[INITIAL_CAPACITY];
+        rowLimit = 0;
+        classGroupIds.clear();
+        classGroupMembers.clear();
+        assignmentIds.clear();
+        assignmentHolders.clear();
+        assignmentCompleters.clear();
+    }
+
+    @Override
+    public int getStudentCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int countAtLevel(int level) {
+        int count = 0;
+        for (int row = 0; row < rowLimit; row++) {
+            if (levels[row] == level) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countAtLevelInClassGroup(int level, String classGroupName) {
+        BitSet members = membersOf(classGroupName);
+        int count = 0;
+        for (int row = members.nextSetBit(0); row >= 0; row = members.nextSetBit(row + 1)) {
+            if (levels[row] == level) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countInClassGroup(String classGroupName) {
+        return membersOf(classGroupName).cardinality();
+    }
+
+    @Override
+    public int countHolding(Assignment assignment) {
+        requireNonNull(assignment);
+        Integer id = assignmentIds.get(assignment);
+        return id == null ? 0 : assignmentHolders.get(id).cardinality();
+    }
+
+    @Override
+    public int countCompleted(Assignment assignment) {
+        requireNonNull(assignment);
+        Integer id = assignmentIds.get(assignment);
+        return id == null ? 0 : assignmentCompleters.get(id).cardinality();
+    }
+
+    private BitSet membersOf(String classGroupName) {
+        Integer id = classGroupIds.get(ClassGroupIndex.toKey(classGroupName));
+        return id == null ? new BitSet() : classGroupMembers.get(id);
+    }
+
+    private int classGroupIdOf(String classGroupName) {
+        return classGroupIds.computeIfAbsent(ClassGroupIndex.toKey(classGroupName), unused -> {
+            classGroupMembers.add(new BitSet());
+            return classGroupMembers.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the dictionary id of {@code assignment}, which is shared by its marked and unmarked forms.
+     */
+    private int assignmentIdOf(Assignment assignment) {
+        return assignmentIds.computeIfAbsent(assignment, unused -> {
+            assignmentHolders.add(new BitSet());
+            assignmentCompleters.add(new BitSet());
+            return assignmentHolders.size() - 1;
+        });
+    }
+}
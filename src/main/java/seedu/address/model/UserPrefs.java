@@ -15,7 +15,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "tutortrack.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean compressDataFiles = false;
     private Path commandHistoryFilePath = Paths.get("data", "history.txt");
+    private int maxUndoVersions = 500;
+    private long maxUndoHistoryBytes = 32L * 1024 * 1024;
+    private int maxUndoVersionsInMemory = 50;
+    private long maxWriteAheadLogBytes = 0;
+    private long lazyLoadThresholdBytes = 64L * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +44,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setCompressDataFiles(newUserPrefs.shouldCompressDataFiles());
+        setMaxUndoVersions(newUserPrefs.getMaxUndoVersions());
+        setMaxUndoHistoryBytes(newUserPrefs.getMaxUndoHistoryBytes());
+        setMaxUndoVersionsInMemory(newUserPrefs.getMaxUndoVersionsInMemory());
+        setMaxWriteAheadLogBytes(newUserPrefs.getMaxWriteAheadLogBytes());
+        setLazyLoadThresholdBytes(newUserPrefs.getLazyLoadThresholdBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +71,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean shouldCompressDataFiles() {
+        return compressDataFiles;
+    }
+
+    public void setCompressDataFiles(boolean compressDataFiles) {
+        this.compressDataFiles = compressDataFiles;
+    }
+
     public Path getCommandHistoryFilePath() {
         return commandHistoryFilePath;
     }
@@ -66,6 +97,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.commandHistoryFilePath = commandHistoryFilePath;
     }
 
+    public int getMaxUndoVersions() {
+        return maxUndoVersions;
+    }
+
+    public void setMaxUndoVersions(int maxUndoVersions) {
+        this.maxUndoVersions = maxUndoVersions;
+    }
+
+    public long getMaxUndoHistoryBytes() {
+        return maxUndoHistoryBytes;
+    }
+
+    public void setMaxUndoHistoryBytes(long maxUndoHistoryBytes) {
+        this.maxUndoHistoryBytes = maxUndoHistoryBytes;
+    }
+
+    public int getMaxUndoVersionsInMemory() {
+        return maxUndoVersionsInMemory;
+    }
+
+    public void setMaxUndoVersionsInMemory(int maxUndoVersionsInMemory) {
+        this.maxUndoVersionsInMemory = maxUndoVersionsInMemory;
+    }
+
+    public long getMaxWriteAheadLogBytes() {
+        return maxWriteAheadLogBytes;
+    }
+
+    public void setMaxWriteAheadLogBytes(long maxWriteAheadLogBytes) {
+        this.maxWriteAheadLogBytes = maxWriteAheadLogBytes;
+    }
+
+    public long getLazyLoadThresholdBytes() {
+        return lazyLoadThresholdBytes;
+    }
+
+    public void setLazyLoadThresholdBytes(long lazyLoadThresholdBytes) {
+        this.lazyLoadThresholdBytes = lazyLoadThresholdBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,13 +151,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath);
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && compressDataFiles == otherUserPrefs.compressDataFiles
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && maxUndoVersions == otherUserPrefs.maxUndoVersions
+                && maxUndoHistoryBytes == otherUserPrefs.maxUndoHistoryBytes
+                && maxUndoVersionsInMemory == otherUserPrefs.maxUndoVersionsInMemory
+                && maxWriteAheadLogBytes == otherUserPrefs.maxWriteAheadLogBytes
+                && lazyLoadThresholdBytes == otherUserPrefs.lazyLoadThresholdBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                guiSettings, addressBookFilePath, commandHistoryFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, compressDataFiles,
+                commandHistoryFilePath, maxUndoVersions, maxUndoHistoryBytes, maxUndoVersionsInMemory,
+                maxWriteAheadLogBytes, lazyLoadThresholdBytes);
     }
 
     @Override
@@ -94,7 +173,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nCompress data files : " + compressDataFiles);
         sb.append("\n:Local command history file location : " + commandHistoryFilePath);
+        sb.append("\nUndo history limits : " + maxUndoVersions + " versions, " + maxUndoHistoryBytes + " bytes, "
+                + maxUndoVersionsInMemory + " versions in memory");
+        sb.append("\nWrite-ahead log limit : " + maxWriteAheadLogBytes + " bytes");
+        sb.append("\nLazy loading threshold : " + lazyLoadThresholdBytes + " bytes");
         return sb.toString();
     }
 
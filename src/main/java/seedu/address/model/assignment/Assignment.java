@@ -3,6 +3,8 @@ package seedu.address.model.assignment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents an Assignment in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidAssignmentName(String)}
@@ -17,11 +19,22 @@ public class Assignment {
     // Allow alphanumeric characters, spaces and hyphens; must contain at least one alphanumeric character
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\-]*";
 
+    // Every student in a class holds the class's assignments, so instances are shared rather than duplicated.
+    // Pooled instances must agree on exact names and marked status, which equals() deliberately ignores.
+    private static final WeakInterner<Assignment> POOL = new WeakInterner<>(
+            assignment -> 31 * assignment.hash + Boolean.hashCode(assignment.isMarked),
+            Assignment::isIdenticalTo);
 
     public final String assignmentName;
     public final String classGroupName;
     private final boolean isMarked;
 
+    // Case-folded names used for equality, and the hash derived from them, computed once since
+    // assignments are hashed and compared repeatedly as members of each person's assignment set.
+    private final String assignmentKey;
+    private final String classGroupKey;
+    private final int hash;
+
     /**
      * Constructs a {@code Assignment}.
      *
@@ -47,6 +60,21 @@ public class Assignment {
         this.assignmentName = assignmentName;
         this.classGroupName = classGroupName;
         this.isMarked = isMarked;
+        this.assignmentKey = assignmentName.toLowerCase();
+        this.classGroupKey = classGroupName.toLowerCase();
+        this.hash = java.util.Objects.hash(assignmentKey, classGroupKey);
+    }
+
+    /**
+     * Returns an {@code Assignment} with the given names and marked status,
+     * reusing an existing instance with exactly the same names and status if any.
+     *
+     * @param assignmentName A valid assignment name.
+     * @param classGroupName A valid class group name.
+     * @param isMarked The marked status of the assignment.
+     */
+    public static Assignment of(String assignmentName, String classGroupName, boolean isMarked) {
+        return POOL.intern(new Assignment(assignmentName, classGroupName, isMarked));
     }
 
     /**
@@ -72,8 +100,7 @@ public class Assignment {
         if (this.isMarked) {
             return this;
         }
-        Assignment markedAssignment = new Assignment(this.assignmentName, this.classGroupName, true);
-        return markedAssignment;
+        return of(this.assignmentName, this.classGroupName, true);
     }
 
     /**
@@ -85,8 +112,7 @@ public class Assignment {
         if (!this.isMarked) {
             return this;
         }
-        Assignment unmarkedAssignment = new Assignment(this.assignmentName, this.classGroupName, false);
-        return unmarkedAssignment;
+        return of(this.assignmentName, this.classGroupName, false);
     }
 
     /**
@@ -108,8 +134,18 @@ public class Assignment {
         }
 
         Assignment otherAssignment = (Assignment) other;
-        return assignmentName.equalsIgnoreCase(otherAssignment.assignmentName)
-                && classGroupName.equalsIgnoreCase(otherAssignment.classGroupName);
+        return hash == otherAssignment.hash
+                && assignmentKey.equals(otherAssignment.assignmentKey)
+                && classGroupKey.equals(otherAssignment.classGroupKey);
+    }
+
+    /**
+     * Returns true if {@code other} has exactly the same names, including case, and marked status.
+     */
+    private boolean isIdenticalTo(Assignment other) {
+        return isMarked == other.isMarked
+                && assignmentName.equals(other.assignmentName)
+                && classGroupName.equals(other.classGroupName);
     }
 
     public String getAssignmentName() {
@@ -122,7 +158,7 @@ public class Assignment {
 
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(assignmentName.toLowerCase(), classGroupName.toLowerCase());
+        return hash;
     }
 
     /**
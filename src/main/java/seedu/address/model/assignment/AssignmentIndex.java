@@ -0,0 +1,83 @@
+package seedu.address.model.assignment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each assignment to the persons who hold it, split by whether they have marked it as completed.
+ * Assignments are keyed as in {@link Assignment#equals(Object)}, i.e. by assignment and class group name
+ * ignoring case, so any {@code Assignment} with those names can be used for lookups.
+ */
+public class AssignmentIndex {
+
+    private final Map<Assignment, Set<Person>> markedHolders = new HashMap<>();
+    private final Map<Assignment, Set<Person>> unmarkedHolders = new HashMap<>();
+
+    /**
+     * Records {@code person} as a holder of each of their assignments.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Assignment assignment : person.getAssignments()) {
+            holdersOf(assignment).computeIfAbsent(assignment, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} as a holder of each of their assignments.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Assignment assignment : person.getAssignments()) {
+            Map<Assignment, Set<Person>> holders = holdersOf(assignment);
+            Set<Person> persons = holders.get(assignment);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                holders.remove(assignment);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        markedHolders.clear();
+        unmarkedHolders.clear();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the persons who have marked {@code assignment} as completed.
+     */
+    public Set<Person> getMarked(Assignment assignment) {
+        return snapshot(markedHolders.get(requireNonNull(assignment)));
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the persons who hold {@code assignment} but have not completed it.
+     */
+    public Set<Person> getUnmarked(Assignment assignment) {
+        return snapshot(unmarkedHolders.get(requireNonNull(assignment)));
+    }
+
+    private Map<Assignment, Set<Person>> holdersOf(Assignment assignment) {
+        return assignment.isMarked() ? markedHolders : unmarkedHolders;
+    }
+
+    private static Set<Person> snapshot(Set<Person> persons) {
+        if (persons == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(persons));
+    }
+}
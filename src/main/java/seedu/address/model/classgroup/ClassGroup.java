@@ -3,6 +3,8 @@ package seedu.address.model.classgroup;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a ClassGroup in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidClassGroupName(String)}
@@ -15,6 +17,9 @@ public class ClassGroup {
     // Allow alphanumeric characters, spaces and hyphens; must contain at least one alphanumeric character
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} \\-]*";
 
+    // Every student in a class holds an equal class group, so instances are shared rather than duplicated
+    private static final WeakInterner<ClassGroup> POOL = new WeakInterner<>();
+
     public final String classGroupName;
 
     /**
@@ -27,6 +32,16 @@ public class ClassGroup {
         checkArgument(isValidClassGroupName(classGroupName), MESSAGE_CONSTRAINTS);
         this.classGroupName = classGroupName;
     }
+
+    /**
+     * Returns a {@code ClassGroup} with the given name, reusing an existing instance with the same name if any.
+     *
+     * @param classGroupName A valid class group name.
+     */
+    public static ClassGroup of(String classGroupName) {
+        return POOL.intern(new ClassGroup(classGroupName));
+    }
+
     /**
      * Returns true if a given string is a valid class group name.
      */
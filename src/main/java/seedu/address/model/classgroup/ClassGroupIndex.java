@@ -0,0 +1,76 @@
+package seedu.address.model.classgroup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each class group name to the persons enrolled in it.
+ * Class group names are compared case-insensitively, matching how commands look up class groups.
+ */
+public class ClassGroupIndex {
+
+    private final Map<String, Set<Person>> membersByClassGroup = new HashMap<>();
+
+    /**
+     * Returns the key under which members of {@code classGroupName} are indexed.
+     */
+    public static String toKey(String classGroupName) {
+        requireNonNull(classGroupName);
+        return classGroupName.toLowerCase();
+    }
+
+    /**
+     * Records {@code person} as a member of each of their class groups.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            membersByClassGroup.computeIfAbsent(toKey(classGroup.getClassGroupName()), unused -> new LinkedHashSet<>())
+                    .add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of their class groups.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            String key = toKey(classGroup.getClassGroupName());
+            Set<Person> members = membersByClassGroup.get(key);
+            if (members == null) {
+                continue;
+            }
+            members.remove(person);
+            if (members.isEmpty()) {
+                membersByClassGroup.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        membersByClassGroup.clear();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the persons in the class group named {@code classGroupName},
+     * ignoring case. The snapshot is unaffected by later changes to the index.
+     */
+    public Set<Person> getMembers(String classGroupName) {
+        Set<Person> members = membersByClassGroup.get(toKey(classGroupName));
+        if (members == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new LinkedHashSet<>(members));
+    }
+}
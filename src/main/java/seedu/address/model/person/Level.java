@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a student's academic level in TutorTrack.
  * Guarantees: immutable; is valid as declared in {@link #isValidLevel(String)}.
@@ -12,8 +14,15 @@ public class Level {
     public static final String MESSAGE_CONSTRAINTS = "Level must be a number between 1 and 5 inclusive, "
             + "and it should not be blank.";
     public static final String VALIDATION_REGEX = "[1-5]"; // case-insensitive regex for Secondary1–4
+
+    // There are only a handful of distinct levels, so instances are shared rather than created per student
+    private static final WeakInterner<Level> POOL = new WeakInterner<>();
+
     public final String value;
 
+    // Case-folded value used for equality, computed once
+    private final String key;
+
     /**
      * Constructs a {@code Level}.
      *
@@ -23,6 +32,16 @@ public class Level {
         requireNonNull(level);
         checkArgument(isValidLevel(level), MESSAGE_CONSTRAINTS);
         value = level.trim();
+        key = value.toLowerCase();
+    }
+
+    /**
+     * Returns a {@code Level} for the given level string, reusing an existing equal instance if any.
+     *
+     * @param level A valid level string.
+     */
+    public static Level of(String level) {
+        return POOL.intern(new Level(level));
     }
 
     /**
@@ -49,11 +68,11 @@ public class Level {
             return false;
         }
         Level otherLevel = (Level) other;
-        return value.equalsIgnoreCase(otherLevel.value);
+        return key.equals(otherLevel.key);
     }
 
     @Override
     public int hashCode() {
-        return value.toLowerCase().hashCode();
+        return key.hashCode();
     }
 }
@@ -0,0 +1,78 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from each word of a person's name to the persons whose name contains that word.
+ * Words are compared case-insensitively and must match in full, as in
+ * {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+public class NameWordIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    /**
+     * Records {@code person} under each word of their name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName())) {
+            personsByWord.computeIfAbsent(word, unused -> new LinkedHashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each word of their name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : toWords(person.getName())) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        personsByWord.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a full word, ignoring case.
+     * Only the postings of the given keywords are visited.
+     */
+    public Set<Person> getPersonsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Person> persons = personsByWord.get(keyword.trim().toLowerCase());
+            if (persons != null) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> toWords(Name name) {
+        Set<String> words = new HashSet<>();
+        for (String word : name.fullName.split("\\s+")) {
+            words.add(word.toLowerCase());
+        }
+        return words;
+    }
+}
@@ -2,11 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.PersistentHashSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.classgroup.ClassGroup;
@@ -23,8 +22,12 @@ public class Person {
 
     // Data fields
     private final Level level;
-    private final Set<ClassGroup> classGroups = new HashSet<>();
-    private final Set<Assignment> assignments = new HashSet<>();
+    // Persistent sets, so that persons derived from this one share the entries they leave unchanged
+    private final PersistentHashSet<ClassGroup> classGroups;
+    private final PersistentHashSet<Assignment> assignments;
+
+    // All fields are immutable, so the hash is computed once rather than re-hashing both sets on every call
+    private final int hash;
 
     /**
      * Every field must be present and not null.
@@ -34,9 +37,9 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.level = level;
-        this.classGroups.addAll(classGroups);
-        this.assignments.addAll(assignments);
-
+        this.classGroups = PersistentHashSet.copyOf(classGroups);
+        this.assignments = PersistentHashSet.copyOf(assignments);
+        this.hash = Objects.hash(name, phone, level, this.classGroups, this.assignments);
     }
 
     public Name getName() {
@@ -53,18 +56,20 @@ public class Person {
 
     /**
      * Returns an immutable classGroup set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. Use {@link PersistentHashSet#plus(Object)} and related methods
+     * to derive an updated set that shares structure with this one.
      */
-    public Set<ClassGroup> getClassGroups() {
-        return Collections.unmodifiableSet(classGroups);
+    public PersistentHashSet<ClassGroup> getClassGroups() {
+        return classGroups;
     }
 
     /**
      * Returns an immutable assignment set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. Use {@link PersistentHashSet#plus(Object)} and related methods
+     * to derive an updated set that shares structure with this one.
      */
-    public Set<Assignment> getAssignments() {
-        return Collections.unmodifiableSet(assignments);
+    public PersistentHashSet<Assignment> getAssignments() {
+        return assignments;
     }
 
     /**
@@ -101,7 +106,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && level.equals(otherPerson.level)
                 && classGroups.equals(otherPerson.classGroups)
@@ -110,8 +116,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, level, classGroups, assignments);
+        return hash;
     }
 
     @Override
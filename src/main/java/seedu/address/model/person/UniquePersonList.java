@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +25,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity, name and phone lookups are answered from hash indexes that are kept in sync with the backing list
+ * on every mutation, so they do not scan the list. The identity index also records each person's position, so
+ * replacing or removing a person does not search the list with {@code Person#equals(Object)} either.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,12 +37,20 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Lookup indexes over internalList; names and phones need not be unique on their own, hence the counts.
+    private final Map<Identity, Integer> positions = new HashMap<>();
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+
+    // Removing a person shifts everyone after it; recorded positions from here onwards are refreshed lazily.
+    private int firstStalePosition = Integer.MAX_VALUE;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(new Identity(toCheck));
     }
 
     /**
@@ -41,7 +58,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsName(Name name) {
         requireNonNull(name);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name));
+        return nameCounts.containsKey(name);
     }
 
     /**
@@ -49,7 +66,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPhone(Phone phone) {
         requireNonNull(phone);
-        return internalList.stream().anyMatch(person -> person.getPhone().equals(phone));
+        return phoneCounts.containsKey(phone);
     }
 
     /**
@@ -62,6 +79,21 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd, internalList.size() - 1);
+    }
+
+    /**
+     * Inserts a person into the list at {@code position}, shifting the persons from there onwards.
+     * The person must not already exist in the list.
+     */
+    public void add(int position, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(position, toAdd);
+        index(toAdd, position);
+        firstStalePosition = Math.min(firstStalePosition, position);
     }
 
     /**
@@ -72,7 +104,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -82,6 +114,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        unindex(target);
+        index(editedPerson, index);
     }
 
     /**
@@ -90,14 +124,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        unindex(toRemove);
+        firstStalePosition = Math.min(firstStalePosition, index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * {@code replacement} is already known to be unique, so it is not validated again.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        firstStalePosition = replacement.firstStalePosition;
+        nameCounts.clear();
+        nameCounts.putAll(replacement.nameCounts);
+        phoneCounts.clear();
+        phoneCounts.putAll(replacement.phoneCounts);
     }
 
     /**
@@ -110,7 +160,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceContents(persons);
+        reindex();
     }
 
     /**
@@ -150,17 +201,137 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is no such person.
+     * Since identities are unique, only the person with the same identity needs to be compared.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Identity identity = new Identity(person);
+        Integer position = positions.get(identity);
+        if (position == null) {
+            return -1;
+        }
+
+        if (position >= firstStalePosition) {
+            refreshStalePositions();
+            position = positions.get(identity);
+        }
+        return internalList.get(position).equals(person) ? position : -1;
+    }
+
+    /**
+     * Makes the backing list equal to {@code replacement}, changing only the range in which the two differ,
+     * so that listeners such as filtered views are notified of that range rather than of a whole new list.
+     * Persons are matched by reference, since equal persons may still differ in letter case or marked status.
+     */
+    private void replaceContents(List<Person> replacement) {
+        int oldSize = internalList.size();
+        int newSize = replacement.size();
+
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && internalList.get(prefix) == replacement.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && internalList.get(oldSize - 1 - suffix) == replacement.get(newSize - 1 - suffix)) {
+            suffix++;
+        }
+
+        if (prefix + suffix < oldSize) {
+            internalList.remove(prefix, oldSize - suffix);
+        }
+        if (prefix + suffix < newSize) {
+            internalList.addAll(prefix, replacement.subList(prefix, newSize - suffix));
+        }
+    }
+
+    /**
+     * Re-records the positions of every person from {@code firstStalePosition} to the end of the list.
+     */
+    private void refreshStalePositions() {
+        for (int i = firstStalePosition; i < internalList.size(); i++) {
+            positions.put(new Identity(internalList.get(i)), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adds {@code person}, located at {@code position}, to the lookup indexes.
+     */
+    private void index(Person person, int position) {
+        positions.put(new Identity(person), position);
+        nameCounts.merge(person.getName(), 1, Integer::sum);
+        phoneCounts.merge(person.getPhone(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code person} from the lookup indexes.
+     */
+    private void unindex(Person person) {
+        positions.remove(new Identity(person));
+        nameCounts.computeIfPresent(person.getName(), (name, count) -> count == 1 ? null : count - 1);
+        phoneCounts.computeIfPresent(person.getPhone(), (phone, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Rebuilds the lookup indexes from the backing list.
+     */
+    private void reindex() {
+        positions.clear();
+        nameCounts.clear();
+        phoneCounts.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+        firstStalePosition = Integer.MAX_VALUE;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>();
+        for (Person person : persons) {
+            if (!seen.add(new Identity(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hash key over the identity fields of a {@code Person}, consistent with {@link Person#isSamePerson(Person)}.
+     */
+    private static final class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name)
+                    && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
+    }
 }
@@ -0,0 +1,224 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change made to the persons of an {@link AddressBook}, which can be redone and undone.
+ * Guarantees: immutable.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The kinds of change that can be made to the person list.
+     */
+    public enum Kind {
+        /** A person was added to the end of the list; {@code after} holds the person. */
+        ADD,
+        /** A person was removed from {@code position}; {@code before} holds the person. */
+        REMOVE,
+        /** A person was replaced; {@code before} holds the original person and {@code after} the edited one. */
+        REPLACE,
+        /** The whole list was replaced; {@code before} and {@code after} hold the old and new lists. */
+        RESET
+    }
+
+    private final Kind kind;
+    private final int position;
+    private final List<Person> before;
+    private final List<Person> after;
+
+    private AddressBookChange(Kind kind, int position, List<Person> before, List<Person> after) {
+        this.kind = kind;
+        this.position = position;
+        this.before = List.copyOf(before);
+        this.after = List.copyOf(after);
+    }
+
+    /**
+     * Returns a change in which {@code added} was added to the address book.
+     */
+    public static AddressBookChange add(Person added) {
+        requireNonNull(added);
+        return new AddressBookChange(Kind.ADD, -1, List.of(), List.of(added));
+    }
+
+    /**
+     * Returns a change in which {@code removed} was removed from position {@code position} of the person list.
+     */
+    public static AddressBookChange remove(int position, Person removed) {
+        requireNonNull(removed);
+        return new AddressBookChange(Kind.REMOVE, position, List.of(removed), List.of());
+    }
+
+    /**
+     * Returns a change in which {@code target} was replaced by {@code edited}.
+     */
+    public static AddressBookChange replace(Person target, Person edited) {
+        requireAllNonNull(target, edited);
+        return new AddressBookChange(Kind.REPLACE, -1, List.of(target), List.of(edited));
+    }
+
+    /**
+     * Returns a change in which the whole person list was replaced, going from {@code before} to {@code after}.
+     */
+    public static AddressBookChange reset(List<Person> before, List<Person> after) {
+        requireAllNonNull(before, after);
+        return new AddressBookChange(Kind.RESET, -1, before, after);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the position a removed person was removed from, or -1 for other kinds of change.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the persons this change removed or replaced, as described by {@link Kind}.
+     */
+    public List<Person> getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the persons this change added or replaced others with, as described by {@link Kind}.
+     */
+    public List<Person> getAfter() {
+        return after;
+    }
+
+    /**
+     * Redoes this change on {@code addressBook}, which must be in the state the change was made from.
+     */
+    public void apply(AddressBook addressBook) {
+        switch (kind) {
+        case ADD:
+            addressBook.addPerson(after.get(0));
+            break;
+        case REMOVE:
+            addressBook.removePerson(before.get(0));
+            break;
+        case REPLACE:
+            addressBook.setPerson(before.get(0), after.get(0));
+            break;
+        case RESET:
+            addressBook.setPersons(after);
+            break;
+        default:
+            throw new AssertionError("Unknown change kind: " + kind);
+        }
+    }
+
+    /**
+     * Undoes this change on {@code addressBook}, which must be in the state the change led to.
+     */
+    public void revert(AddressBook addressBook) {
+        switch (kind) {
+        case ADD:
+            addressBook.removePerson(after.get(0));
+            break;
+        case REMOVE:
+            // Reinsert where the person was, so that undoing restores the original list order
+            addressBook.addPerson(position, before.get(0));
+            break;
+        case REPLACE:
+            addressBook.setPerson(after.get(0), before.get(0));
+            break;
+        case RESET:
+            addressBook.setPersons(before);
+            break;
+        default:
+            throw new AssertionError("Unknown change kind: " + kind);
+        }
+    }
+
+    /**
+     * Records this change, as redone, to {@code changeSet}.
+     */
+    public void recordApplied(ChangeSet.Builder changeSet) {
+        switch (kind) {
+        case ADD:
+            changeSet.add(after.get(0));
+            break;
+        case REMOVE:
+            changeSet.remove(before.get(0));
+            break;
+        case REPLACE:
+            changeSet.replace(before.get(0), after.get(0));
+            break;
+        case RESET:
+            changeSet.reset(before, after);
+            break;
+        default:
+            throw new AssertionError("Unknown change kind: " + kind);
+        }
+    }
+
+    /**
+     * Records this change, as undone, to {@code changeSet}.
+     */
+    public void recordReverted(ChangeSet.Builder changeSet) {
+        switch (kind) {
+        case ADD:
+            changeSet.remove(after.get(0));
+            break;
+        case REMOVE:
+            changeSet.add(before.get(0));
+            break;
+        case REPLACE:
+            changeSet.replace(after.get(0), before.get(0));
+            break;
+        case RESET:
+            changeSet.reset(after, before);
+            break;
+        default:
+            throw new AssertionError("Unknown change kind: " + kind);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return kind == otherChange.kind
+                && position == otherChange.position
+                && before.equals(otherChange.before)
+                && after.equals(otherChange.after);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, position, before, after);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("position", position)
+                .add("before", before)
+                .add("after", after)
+                .toString();
+    }
+}
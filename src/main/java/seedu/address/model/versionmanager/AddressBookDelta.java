@@ -0,0 +1,160 @@
+package seedu.address.model.versionmanager;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * The changes made to an {@link AddressBook} between two committed versions, recorded in the order they were made.
+ * Reverting a delta undoes each change in reverse order, and applying it redoes them in the original order,
+ * so the cost of either is proportional to the number of changes rather than to the size of the address book.
+ */
+public class AddressBookDelta {
+
+    // Rough sizes of the objects a delta keeps reachable, used to estimate its memory footprint
+    private static final long CHANGE_BYTES = 32;
+    private static final long PERSON_BYTES = 160;
+    private static final long SET_ENTRY_BYTES = 48;
+
+    private final List<AddressBookChange> changes = new ArrayList<>();
+    private long estimatedBytes;
+
+    /**
+     * Constructs an empty {@code AddressBookDelta}.
+     */
+    public AddressBookDelta() {}
+
+    /**
+     * Constructs an {@code AddressBookDelta} holding {@code changes}, in the order they were made.
+     */
+    public AddressBookDelta(List<AddressBookChange> changes) {
+        requireNonNull(changes);
+        changes.forEach(this::record);
+    }
+
+    /**
+     * Records that {@code added} was added to the address book.
+     */
+    public void recordAdd(Person added) {
+        record(AddressBookChange.add(added));
+    }
+
+    /**
+     * Records that {@code removed} was removed from position {@code position} of the person list.
+     */
+    public void recordRemove(int position, Person removed) {
+        record(AddressBookChange.remove(position, removed));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code edited}.
+     */
+    public void recordReplace(Person target, Person edited) {
+        record(AddressBookChange.replace(target, edited));
+    }
+
+    /**
+     * Records that the whole person list was replaced, going from {@code before} to {@code after}.
+     */
+    public void recordReset(List<Person> before, List<Person> after) {
+        record(AddressBookChange.reset(before, after));
+    }
+
+    private void record(AddressBookChange change) {
+        requireNonNull(change);
+        changes.add(change);
+        estimatedBytes += CHANGE_BYTES;
+        change.getBefore().forEach(person -> estimatedBytes += estimateBytes(person));
+        change.getAfter().forEach(person -> estimatedBytes += estimateBytes(person));
+    }
+
+    /**
+     * Returns true if no changes have been recorded.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes recorded.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the recorded changes, in the order they were made.
+     */
+    public List<AddressBookChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns an estimate of the memory kept reachable by this delta, in bytes.
+     * Every person the delta refers to is counted in full, even if the address book still holds it,
+     * so the estimate errs on the high side.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Undoes the recorded changes on {@code addressBook}, which must be in the state they led to, and records the
+     * changes made to {@code changeSet}.
+     * If a change does not match the address book, the changes already undone are redone, so that the address book
+     * is left as it was, and the exception is rethrown.
+     */
+    public void revert(AddressBook addressBook, ChangeSet.Builder changeSet) {
+        requireAllNonNull(addressBook, changeSet);
+        int i = changes.size() - 1;
+        try {
+            for (; i >= 0; i--) {
+                changes.get(i).revert(addressBook);
+                changes.get(i).recordReverted(changeSet);
+            }
+        } catch (PersonNotFoundException | DuplicatePersonException | IndexOutOfBoundsException e) {
+            // A change that does not match is rejected before it changes anything
+            for (int j = i + 1; j < changes.size(); j++) {
+                changes.get(j).apply(addressBook);
+                changes.get(j).recordApplied(changeSet);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Redoes the recorded changes on {@code addressBook}, which must be in the state they were made from, and records
+     * the changes made to {@code changeSet}.
+     * If a change does not match the address book, the changes already redone are undone, so that the address book
+     * is left as it was, and the exception is rethrown.
+     */
+    public void apply(AddressBook addressBook, ChangeSet.Builder changeSet) {
+        requireAllNonNull(addressBook, changeSet);
+        int i = 0;
+        try {
+            for (; i < changes.size(); i++) {
+                changes.get(i).apply(addressBook);
+                changes.get(i).recordApplied(changeSet);
+            }
+        } catch (PersonNotFoundException | DuplicatePersonException | IndexOutOfBoundsException e) {
+            for (int j = i - 1; j >= 0; j--) {
+                changes.get(j).revert(addressBook);
+                changes.get(j).recordReverted(changeSet);
+            }
+            throw e;
+        }
+    }
+
+    private static long estimateBytes(Person person) {
+        return PERSON_BYTES + SET_ENTRY_BYTES * (person.getClassGroups().size() + person.getAssignments().size());
+    }
+}
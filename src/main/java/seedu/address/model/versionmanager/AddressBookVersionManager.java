@@ -1,97 +1,357 @@
 package seedu.address.model.versionmanager;
 
-import java.util.Stack;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import seedu.address.model.ReadOnlyAddressBook;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.versionmanager.exceptions.HistoryMismatchException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
 
 /**
- * A {@code AddressBookVersionManager} maintains a history of {@link ReadOnlyAddressBook} states
+ * A {@code AddressBookVersionManager} maintains a history of changes to an {@link AddressBook}
  * to support undo and redo operations within a single application session.
  * <p>
- * Version history is <b>not persisted</b> between sessions; it is reset when the application closes.
+ * Rather than a copy of the address book per version, each committed version is stored as the
+ * {@link AddressBookDelta} that led to it, so committing costs only as much as the changes being committed.
+ * Changes are recorded as they are made and grouped into a version by {@link #commit()}.
+ * <p>
+ * The history is bounded both in the number of versions that can be undone and in the estimated memory it
+ * occupies; when either limit is exceeded, the oldest versions are discarded first.
+ * <p>
+ * If a {@link SpilledVersionStore} is given, only the most recent versions are kept on the heap, and older
+ * versions are spilled to the store instead of being discarded for exceeding the memory limit. They are
+ * paged back in one at a time, only when the user undoes that far.
+ * <p>
+ * Version history is only persisted between sessions if an {@link UndoJournal} is given, in which case every
+ * commit, undo and redo is appended to it, and it also serves as the spill store. If writing to the journal fails,
+ * the journal and the versions spilled to it are abandoned, and the rest of the session keeps its history in memory.
+ * <p>
+ * If a version cannot be reverted or restored because the address book is not in the state it expects, the
+ * address book is left as it was and the whole history is cleared, since the versions beyond it cannot be trusted.
  */
 public class AddressBookVersionManager {
 
-    private final Stack<ReadOnlyAddressBook> versionStack;
-    private final Stack<ReadOnlyAddressBook> redoStack;
+    private static final Logger logger = LogsCenter.getLogger(AddressBookVersionManager.class);
+
+    // The most recent version is at the head of each deque
+    private final Deque<AddressBookDelta> undoStack;
+    private final Deque<AddressBookDelta> redoStack;
+    private AddressBookDelta pending;
+
+    private final int maxVersions;
+    private final long maxBytes;
+    private final int maxVersionsInMemory;
+    // Holds the versions older than those on the undo stack, if any
+    private Optional<SpilledVersionStore> spillStore;
+    private Optional<UndoJournal> journal;
+    // Estimated size of the committed versions on both stacks
+    private long committedBytes;
 
     /**
-     * Constructs a {@code AddressBookVersionManager} with the given initial address book data.
-     * The initial state is recorded as the first version in the history.
-     *
-     * @param initialData the initial {@link ReadOnlyAddressBook} state to track
+     * Constructs an {@code AddressBookVersionManager} with no history and no limits on its size.
+     * The state of the address book at this point is the earliest version that can be restored.
+     */
+    public AddressBookVersionManager() {
+        this(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Constructs an {@code AddressBookVersionManager} with no history that keeps at most {@code maxVersions}
+     * undoable versions, occupying at most about {@code maxBytes} bytes.
+     * The state of the address book at this point is the earliest version that can be restored.
      */
-    public AddressBookVersionManager(ReadOnlyAddressBook initialData) {
-        this.versionStack = new Stack<>();
-        this.versionStack.add(initialData);
-        this.redoStack = new Stack<>();
+    public AddressBookVersionManager(int maxVersions, long maxBytes) {
+        this(maxVersions, maxBytes, maxVersions, Optional.empty(), Optional.empty());
     }
 
     /**
-     * Commits the specified address book state as a new version in the history.
+     * Constructs an {@code AddressBookVersionManager} with no history that keeps at most {@code maxVersions}
+     * undoable versions, of which at most {@code maxVersionsInMemory} versions occupying at most about
+     * {@code maxBytes} bytes are kept on the heap, and the rest are spilled to {@code spillStore}.
+     * The state of the address book at this point is the earliest version that can be restored.
+     */
+    public AddressBookVersionManager(int maxVersions, long maxBytes, int maxVersionsInMemory,
+            SpilledVersionStore spillStore) {
+        this(maxVersions, maxBytes, maxVersionsInMemory, Optional.of(spillStore), Optional.empty());
+    }
+
+    /**
+     * Constructs an {@code AddressBookVersionManager} that records its history to {@code journal}, restoring
+     * the undoable versions already in it, and otherwise behaves as
+     * {@link #AddressBookVersionManager(int, long, int, SpilledVersionStore)} with the journal as the spill store.
+     * The address book must be in the state the journal's most recent version led to.
+     */
+    public AddressBookVersionManager(int maxVersions, long maxBytes, int maxVersionsInMemory,
+            UndoJournal journal) {
+        this(maxVersions, maxBytes, maxVersionsInMemory, Optional.of(journal), Optional.of(journal));
+    }
+
+    private AddressBookVersionManager(int maxVersions, long maxBytes, int maxVersionsInMemory,
+            Optional<SpilledVersionStore> spillStore, Optional<UndoJournal> journal) {
+        requireAllNonNull(spillStore, journal);
+        this.undoStack = new ArrayDeque<>();
+        this.redoStack = new ArrayDeque<>();
+        this.pending = new AddressBookDelta();
+        this.maxVersions = Math.max(0, maxVersions);
+        this.maxBytes = Math.max(0, maxBytes);
+        this.maxVersionsInMemory = Math.max(0, maxVersionsInMemory);
+        this.spillStore = spillStore;
+        this.journal = journal;
+    }
+
+    /**
+     * Records that {@code added} was added to the address book since the last commit.
+     */
+    public void recordAdd(Person added) {
+        pending.recordAdd(added);
+    }
+
+    /**
+     * Records that {@code removed} was removed from position {@code position} of the person list
+     * since the last commit.
+     */
+    public void recordRemove(int position, Person removed) {
+        pending.recordRemove(position, removed);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code edited} since the last commit.
+     */
+    public void recordReplace(Person target, Person edited) {
+        pending.recordReplace(target, edited);
+    }
+
+    /**
+     * Records that the whole person list was replaced, going from {@code before} to {@code after},
+     * since the last commit.
+     */
+    public void recordReset(List<Person> before, List<Person> after) {
+        pending.recordReset(before, after);
+    }
+
+    /**
+     * Commits the changes recorded since the last commit as a new version in the history.
      * <p>
      * Clears any redo history when a new commit is made, as redo states are only
-     * valid immediately after an undo.
-     *
-     * @param updated the new {@link ReadOnlyAddressBook} state to record
+     * valid immediately after an undo. Then discards the oldest versions until the history is within its limits,
+     * and moves the oldest versions on the heap to the spill store, if any, until the heap is within its limits.
+     * Either may include the version just committed if it alone exceeds the memory limit.
      */
-    public void commit(ReadOnlyAddressBook updated) {
-        this.versionStack.add(updated);
+    public void commit() {
+        this.redoStack.forEach(delta -> committedBytes -= delta.getEstimatedBytes());
         this.redoStack.clear();
+        this.undoStack.push(pending);
+        this.committedBytes += pending.getEstimatedBytes();
+        AddressBookDelta committed = pending;
+        writeToJournal(journal -> journal.appendCommit(committed));
+        this.pending = new AddressBookDelta();
+
+        while (getUndoableCount() > maxVersions) {
+            discardOldest();
+        }
+        while (!undoStack.isEmpty() && (undoStack.size() > maxVersionsInMemory || committedBytes > maxBytes)) {
+            AddressBookDelta oldest = undoStack.removeLast();
+            committedBytes -= oldest.getEstimatedBytes();
+            spill(oldest);
+        }
     }
 
     /**
-     * Reverts the address book to its previous committed state.
+     * Reverts {@code addressBook} to its previous committed state, discarding any uncommitted changes.
      * <p>
-     * The current state is pushed to the redo stack, allowing it to be restored later via {@link #redo()}.
+     * The reverted changes are kept on the redo stack, allowing them to be reapplied later via {@link #redo}.
      *
-     * @return the previous {@link ReadOnlyAddressBook} state
+     * @param addressBook the address book whose changes have been recorded in this history
      * @throws NoPreviousCommitException if there is no earlier version to revert to
+     * @throws HistoryMismatchException if the version does not match {@code addressBook}
      */
-    public ReadOnlyAddressBook undo() throws NoPreviousCommitException {
-        if (this.versionStack.size() <= 1) {
+    public void undo(AddressBook addressBook) throws NoPreviousCommitException {
+        undo(addressBook, new ChangeSet.Builder());
+    }
+
+    /**
+     * Reverts {@code addressBook} to its previous committed state as {@link #undo(AddressBook)} does, and records the
+     * changes made to it, including the discarded uncommitted ones, to {@code changeSet}.
+     */
+    public void undo(AddressBook addressBook, ChangeSet.Builder changeSet) throws NoPreviousCommitException {
+        requireAllNonNull(addressBook, changeSet);
+        if (this.undoStack.isEmpty() && !pageIn()) {
             throw new NoPreviousCommitException();
         }
-        this.redoStack.add(versionStack.peek());
-        this.versionStack.pop();
-        return versionStack.peek();
+        discardPending(addressBook, changeSet);
+        AddressBookDelta delta = this.undoStack.pop();
+        try {
+            delta.revert(addressBook, changeSet);
+        } catch (PersonNotFoundException | DuplicatePersonException | IndexOutOfBoundsException e) {
+            throw clearAfterMismatch(addressBook, e);
+        }
+        this.redoStack.push(delta);
+        writeToJournal(UndoJournal::appendUndo);
     }
 
     /**
-     * Restores the most recently undone address book state.
+     * Restores the most recently undone changes to {@code addressBook}, discarding any uncommitted changes.
      * <p>
-     * This operation can only be performed immediately after an {@link #undo()} call.
+     * This operation can only be performed immediately after an {@link #undo} call.
      *
-     * @return the restored {@link ReadOnlyAddressBook} state
+     * @param addressBook the address book whose changes have been recorded in this history
      * @throws NoPreviousUndoException if there is no undone version to restore
+     * @throws HistoryMismatchException if the version does not match {@code addressBook}
      */
-    public ReadOnlyAddressBook redo() throws NoPreviousUndoException {
+    public void redo(AddressBook addressBook) throws NoPreviousUndoException {
+        redo(addressBook, new ChangeSet.Builder());
+    }
+
+    /**
+     * Restores the most recently undone changes to {@code addressBook} as {@link #redo(AddressBook)} does, and
+     * records the changes made to it, including the discarded uncommitted ones, to {@code changeSet}.
+     */
+    public void redo(AddressBook addressBook, ChangeSet.Builder changeSet) throws NoPreviousUndoException {
+        requireAllNonNull(addressBook, changeSet);
         if (this.redoStack.isEmpty()) {
             throw new NoPreviousUndoException();
         }
-        ReadOnlyAddressBook targetVersion = this.redoStack.pop();
-        this.versionStack.add(targetVersion);
-        return targetVersion;
+        discardPending(addressBook, changeSet);
+        AddressBookDelta delta = this.redoStack.pop();
+        try {
+            delta.apply(addressBook, changeSet);
+        } catch (PersonNotFoundException | DuplicatePersonException | IndexOutOfBoundsException e) {
+            throw clearAfterMismatch(addressBook, e);
+        }
+        this.undoStack.push(delta);
+        writeToJournal(UndoJournal::appendRedo);
     }
 
     /**
-     * Returns the stack containing all committed address book versions.
-     *
-     * @return the version history stack
+     * Matches the journal, if any, against the persons of the address book it was opened for, which it would
+     * otherwise put off until it is first used, so that it no longer reads those persons.
      */
-    public Stack<ReadOnlyAddressBook> getVersionStack() {
-        return versionStack;
+    public void matchJournal() {
+        journal.ifPresent(UndoJournal::matchPersons);
     }
 
     /**
-     * Returns the stack containing address book states that can be redone.
-     *
-     * @return the redo history stack
+     * Returns the number of committed versions that can be undone, including those spilled out of the heap.
+     */
+    public int getUndoableCount() {
+        return undoStack.size() + spillStore.map(SpilledVersionStore::size).orElse(0);
+    }
+
+    /**
+     * Returns the number of undone versions that can be redone.
+     */
+    public int getRedoableCount() {
+        return redoStack.size();
+    }
+
+    /**
+     * Returns the estimated memory occupied by the history on the heap, including uncommitted changes, in bytes.
+     */
+    public long getEstimatedBytes() {
+        return committedBytes + pending.getEstimatedBytes();
+    }
+
+    private void discardPending(AddressBook addressBook, ChangeSet.Builder changeSet) {
+        pending.revert(addressBook, changeSet);
+        pending = new AddressBookDelta();
+    }
+
+    private void discardOldest() {
+        if (spillStore.isPresent() && spillStore.get().size() > 0) {
+            spillStore.get().dropOldest();
+        } else {
+            committedBytes -= undoStack.removeLast().getEstimatedBytes();
+            journal.ifPresent(UndoJournal::discardOldest);
+        }
+    }
+
+    /**
+     * Clears the history, including the journal, after a version did not match {@code addressBook}, which the
+     * version has already left as it was. Returns the exception to be thrown for the mismatch.
+     */
+    private HistoryMismatchException clearAfterMismatch(AddressBook addressBook, RuntimeException cause) {
+        logger.warning("Undo history does not match the address book, clearing it: " + cause);
+        undoStack.clear();
+        redoStack.clear();
+        committedBytes = 0;
+        spillStore.ifPresent(SpilledVersionStore::clear);
+        writeToJournal(journal -> journal.reset(addressBook.getPersonList()));
+        return new HistoryMismatchException(cause);
+    }
+
+    /**
+     * Writes to the journal, if any, abandoning it if the write fails.
+     */
+    private void writeToJournal(JournalWrite write) {
+        if (journal.isEmpty()) {
+            return;
+        }
+        try {
+            write.writeTo(journal.get());
+        } catch (IOException ioe) {
+            logger.warning("Could not write to undo journal, undo history will no longer be persisted: "
+                    + ioe.getMessage());
+            // The journal was also the spill store, so the versions spilled to it are lost with it
+            journal = Optional.empty();
+            spillStore = Optional.empty();
+        }
+    }
+
+    /**
+     * Moves {@code oldest}, which is older than every version on the undo stack, to the spill store.
+     * Discards it if there is no spill store.
+     */
+    private void spill(AddressBookDelta oldest) {
+        if (spillStore.isEmpty()) {
+            return;
+        }
+        try {
+            spillStore.get().push(oldest);
+        } catch (IOException ioe) {
+            // Versions older than the lost one can no longer be reached by undoing, so they are discarded as well
+            logger.warning("Could not spill undo history, discarding older versions: " + ioe.getMessage());
+            spillStore.get().clear();
+        }
+    }
+
+    /**
+     * Moves the most recent spilled version back onto the undo stack.
+     * Returns false if there was no spilled version to page in.
+     */
+    private boolean pageIn() {
+        if (spillStore.isEmpty() || spillStore.get().size() == 0) {
+            return false;
+        }
+        try {
+            AddressBookDelta delta = spillStore.get().pop();
+            undoStack.addLast(delta);
+            committedBytes += delta.getEstimatedBytes();
+            return true;
+        } catch (IOException ioe) {
+            logger.warning("Could not read spilled undo history, discarding it: " + ioe.getMessage());
+            spillStore.get().clear();
+            return false;
+        }
+    }
+
+    /**
+     * A write to an {@link UndoJournal}.
      */
-    public Stack<ReadOnlyAddressBook> getRedoStack() {
-        return redoStack;
+    @FunctionalInterface
+    private interface JournalWrite {
+        void writeTo(UndoJournal journal) throws IOException;
     }
 
 }
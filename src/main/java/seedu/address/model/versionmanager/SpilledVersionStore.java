@@ -0,0 +1,39 @@
+package seedu.address.model.versionmanager;
+
+import java.io.IOException;
+
+/**
+ * A store outside the heap for the older versions of an {@link AddressBookVersionManager}'s undo history.
+ * Versions are kept in the order they were committed: new versions are spilled on top of the store,
+ * undoing pages back the most recent one, and trimming the history drops the oldest one.
+ */
+public interface SpilledVersionStore {
+
+    /**
+     * Saves {@code delta} as the most recent spilled version.
+     * @throws IOException if there was any problem writing to the store.
+     */
+    void push(AddressBookDelta delta) throws IOException;
+
+    /**
+     * Removes the most recent spilled version from the store and returns it.
+     * Must only be called when the store is not empty.
+     * @throws IOException if there was any problem reading from the store.
+     */
+    AddressBookDelta pop() throws IOException;
+
+    /**
+     * Discards the oldest spilled version. Must only be called when the store is not empty.
+     */
+    void dropOldest();
+
+    /**
+     * Returns the number of versions in the store.
+     */
+    int size();
+
+    /**
+     * Discards all versions in the store.
+     */
+    void clear();
+}
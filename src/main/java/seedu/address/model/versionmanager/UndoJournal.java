@@ -0,0 +1,54 @@
+package seedu.address.model.versionmanager;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A durable record of an {@link AddressBookVersionManager}'s history, from which its undoable versions can be
+ * restored in a later session.
+ * <p>
+ * Every committed version is written to the journal as it is committed, so the journal also serves as the
+ * manager's {@link SpilledVersionStore}: spilling a version only marks it as no longer being on the heap, and its
+ * {@link #size()} is the number of such versions, which are the oldest versions in the journal. When a journal is
+ * opened, all the versions it restores start out spilled, so they are only read when the user undoes that far.
+ */
+public interface UndoJournal extends SpilledVersionStore {
+
+    /**
+     * Records that {@code delta} was committed as the most recent version, discarding any undone versions.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendCommit(AddressBookDelta delta) throws IOException;
+
+    /**
+     * Records that the most recent version was undone.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendUndo() throws IOException;
+
+    /**
+     * Records that the most recently undone version was redone.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void appendRedo() throws IOException;
+
+    /**
+     * Discards the oldest version in the journal, whether or not it has been spilled.
+     * Must only be called when the journal has an undoable version.
+     */
+    void discardOldest();
+
+    /**
+     * Discards every version in the journal, and starts it afresh from an address book holding {@code persons}.
+     * @throws IOException if there was any problem writing to the journal.
+     */
+    void reset(List<Person> persons) throws IOException;
+
+    /**
+     * Matches the journal against the persons it was opened for now, if that has not been done yet, so that it no
+     * longer reads them.
+     */
+    void matchPersons();
+}
@@ -0,0 +1,12 @@
+package seedu.address.model.versionmanager.exceptions;
+
+/**
+ * Thrown when an undo or redo operation finds that the address book is not in the state the version being
+ * reverted or restored expects, after which the history is cleared.
+ */
+public class HistoryMismatchException extends RuntimeException {
+
+    public HistoryMismatchException(Throwable cause) {
+        super("The undo history no longer matches the data, so it has been cleared", cause);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the formats in {@link AddressBookFormat}, without losing any data.
+ */
+public class AddressBookFormatConverter {
+
+    /**
+     * Converts the JSON data file at {@code source} into a binary data file at {@code target}.
+     * {@code source} and {@code target} may be the same file, which is then replaced atomically.
+     *
+     * @throws DataLoadingException if {@code source} is missing or could not be loaded.
+     * @throws IOException if there was any problem writing to {@code target}.
+     */
+    public static void jsonToBinary(Path source, Path target) throws DataLoadingException, IOException {
+        convert(new JsonAddressBookStorage(source), new BinaryAddressBookStorage(target));
+    }
+
+    /**
+     * Converts the binary data file at {@code source} into a JSON data file at {@code target}.
+     * {@code source} and {@code target} may be the same file, which is then replaced atomically.
+     *
+     * @throws DataLoadingException if {@code source} is missing or could not be loaded.
+     * @throws IOException if there was any problem writing to {@code target}.
+     */
+    public static void binaryToJson(Path source, Path target) throws DataLoadingException, IOException {
+        convert(new BinaryAddressBookStorage(source), new JsonAddressBookStorage(target));
+    }
+
+    /**
+     * Converts the data file at {@code filePath} in place into {@code format}, if it exists and is in another
+     * format. Returns true if the file was converted.
+     *
+     * @throws DataLoadingException if the file could not be loaded.
+     * @throws IOException if there was any problem reading or writing the file.
+     */
+    public static boolean convertIfNeeded(Path filePath, AddressBookFormat format)
+            throws DataLoadingException, IOException {
+        requireNonNull(format);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+
+        AddressBookFormat currentFormat = getFormat(filePath);
+        if (currentFormat == format) {
+            return false;
+        }
+        convert(createStorage(filePath, currentFormat), createStorage(filePath, format));
+        if (currentFormat == AddressBookFormat.SHARDED) {
+            // The manifest has been replaced, so its segment files are no longer used
+            ShardedAddressBookStorage.deleteSegments(filePath);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     * @throws IOException if the file could not be read.
+     */
+    public static AddressBookFormat getFormat(Path filePath) throws IOException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return AddressBookFormat.BINARY;
+        }
+        if (ShardedAddressBookStorage.isManifestFile(filePath)) {
+            return AddressBookFormat.SHARDED;
+        }
+        return AddressBookFormat.JSON;
+    }
+
+    private static AddressBookStorage createStorage(Path filePath, AddressBookFormat format) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
+    private static void convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            throw new DataLoadingException(new NoSuchFileException(source.getAddressBookFilePath().toString()));
+        }
+        target.saveAddressBook(addressBook.get());
+    }
+
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +43,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, where {@code changes} are all the changes made to
+     * it since it was last saved. Storages that can save the changes alone do so instead of saving all the data.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, ChangeSet changes) throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Brings the saved data of the given {@link ReadOnlyAddressBook} into its most compact form, such as before the
+     * application exits. Storages that always save the data in the same form do nothing.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {}
+
 }
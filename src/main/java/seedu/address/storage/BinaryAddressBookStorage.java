@@ -0,0 +1,366 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.PersistentHashSet;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Level;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by a dictionary of the levels, class group
+ * names and assignment names used in the address book, and then the persons. Each person is written as its name and
+ * phone, followed by the dictionary ids of its level, class groups and assignments, and a bitmap with one bit per
+ * assignment that is set if the assignment is marked. Counts, lengths and ids are written as varints, so most take
+ * a single byte.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary format version %d is not supported.";
+    public static final String MESSAGE_INVALID_STRING_ID = "Data file refers to a string that is not in it.";
+    public static final String MESSAGE_TRAILING_DATA = "Data file has data after its last person.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final byte[] MAGIC = {'T', 'T', 'A', 'B'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_STRING_BYTES = 1 << 16;
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a binary address book file.
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readAddressBook(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            dictionary.putIfAbsent(person.getLevel().value, dictionary.size());
+            for (ClassGroup classGroup : person.getClassGroups()) {
+                dictionary.putIfAbsent(classGroup.getClassGroupName(), dictionary.size());
+            }
+            for (Assignment assignment : person.getAssignments()) {
+                dictionary.putIfAbsent(assignment.getAssignmentName(), dictionary.size());
+                dictionary.putIfAbsent(assignment.getClassGroupName(), dictionary.size());
+            }
+        }
+
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.write(MAGIC);
+            data.writeByte(FORMAT_VERSION);
+            writeVarint(data, dictionary.size());
+            for (String string : dictionary.keySet()) {
+                writeString(data, string);
+            }
+            writeVarint(data, persons.size());
+            for (Person person : persons) {
+                writePerson(data, person, dictionary);
+            }
+            data.flush();
+        });
+    }
+
+    private static void writePerson(DataOutput out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeVarint(out, dictionary.get(person.getLevel().value));
+
+        writeVarint(out, person.getClassGroups().size());
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            writeVarint(out, dictionary.get(classGroup.getClassGroupName()));
+        }
+
+        List<Assignment> assignments = new ArrayList<>(person.getAssignments());
+        writeVarint(out, assignments.size());
+        byte[] marked = new byte[(assignments.size() + 7) / 8];
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment assignment = assignments.get(i);
+            writeVarint(out, dictionary.get(assignment.getAssignmentName()));
+            writeVarint(out, dictionary.get(assignment.getClassGroupName()));
+            if (assignment.isMarked()) {
+                marked[i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        out.write(marked);
+    }
+
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = readVarint(in);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            strings.add(readString(in));
+        }
+        Dictionary dictionary = new Dictionary(strings);
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readVarint(in);
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in, dictionary);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        if (in.read() != -1) {
+            throw new IllegalValueException(MESSAGE_TRAILING_DATA);
+        }
+        return addressBook;
+    }
+
+    private static Person readPerson(DataInput in, Dictionary dictionary) throws IOException, IllegalValueException {
+        String name = readString(in);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = readString(in);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        Level level = dictionary.getLevel(readVarint(in));
+
+        int classGroupCount = readVarint(in);
+        List<ClassGroup> classGroups = new ArrayList<>();
+        for (int i = 0; i < classGroupCount; i++) {
+            classGroups.add(dictionary.getClassGroup(readVarint(in)));
+        }
+
+        // The marked statuses follow all the assignments, so the ids are kept until they have been read
+        int assignmentCount = readVarint(in);
+        List<int[]> assignmentIds = new ArrayList<>();
+        for (int i = 0; i < assignmentCount; i++) {
+            assignmentIds.add(new int[] {readVarint(in), readVarint(in)});
+        }
+        byte[] marked = new byte[(assignmentCount + 7) / 8];
+        in.readFully(marked);
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i < assignmentCount; i++) {
+            boolean isMarked = (marked[i / 8] & (1 << (i % 8))) != 0;
+            int[] ids = assignmentIds.get(i);
+            assignments.add(dictionary.getAssignment(ids[0], ids[1], isMarked));
+        }
+
+        return new Person(new Name(name), new Phone(phone), level, PersistentHashSet.copyOf(classGroups),
+                PersistentHashSet.copyOf(assignments));
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = readVarint(in);
+        // Guards against allocating a huge buffer for a corrupted length
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("String too long in binary data file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, with the high bit of each byte set
+     * if more bytes follow.
+     */
+    private static void writeVarint(DataOutput out, int value) throws IOException {
+        assert value >= 0 : "Only non-negative values are written as varints";
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed number in binary data file");
+    }
+
+    /**
+     * The strings of a binary data file, with the values made from them, which are validated and created only once
+     * however many persons refer to them.
+     */
+    private static class Dictionary {
+        private final List<String> strings;
+        private final Map<Integer, Level> levels = new HashMap<>();
+        private final Map<Integer, ClassGroup> classGroups = new HashMap<>();
+        private final Map<Long, Assignment> assignments = new HashMap<>();
+
+        Dictionary(List<String> strings) {
+            this.strings = strings;
+        }
+
+        Level getLevel(int id) throws IllegalValueException {
+            Level level = levels.get(id);
+            if (level == null) {
+                String value = getString(id);
+                if (!Level.isValidLevel(value)) {
+                    throw new IllegalValueException(Level.MESSAGE_CONSTRAINTS);
+                }
+                level = Level.of(value);
+                levels.put(id, level);
+            }
+            return level;
+        }
+
+        ClassGroup getClassGroup(int id) throws IllegalValueException {
+            ClassGroup classGroup = classGroups.get(id);
+            if (classGroup == null) {
+                String name = getString(id);
+                if (!ClassGroup.isValidClassGroupName(name)) {
+                    throw new IllegalValueException(ClassGroup.MESSAGE_CONSTRAINTS);
+                }
+                classGroup = ClassGroup.of(name);
+                classGroups.put(id, classGroup);
+            }
+            return classGroup;
+        }
+
+        Assignment getAssignment(int nameId, int classGroupId, boolean isMarked) throws IllegalValueException {
+            long key = ((long) nameId * strings.size() + classGroupId) * 2 + (isMarked ? 1 : 0);
+            Assignment assignment = assignments.get(key);
+            if (assignment == null) {
+                String name = getString(nameId);
+                String classGroupName = getString(classGroupId);
+                if (!Assignment.isValidAssignmentName(name)) {
+                    throw new IllegalValueException(Assignment.MESSAGE_CONSTRAINTS);
+                }
+                if (!Assignment.isValidClassGroupName(classGroupName)) {
+                    throw new IllegalValueException(Assignment.MESSAGE_CLASSGROUP_CONSTRAINTS);
+                }
+                assignment = Assignment.of(name, classGroupName, isMarked);
+                assignments.put(key, assignment);
+            }
+            return assignment;
+        }
+
+        private String getString(int id) throws IllegalValueException {
+            if (id >= strings.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_ID);
+            }
+            return strings.get(id);
+        }
+    }
+
+}
@@ -0,0 +1,334 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DeferredAddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link DeferredAddressBook} over an uncompressed JSON address book file, which reads each person from the file
+ * only when it is needed, such as when it is shown in the person list or tested by a search.
+ * <p>
+ * Opening the file builds an index of the byte offsets of the persons in it, without converting them. The index is
+ * saved next to the file, so that later openings need not scan the file again, and is rebuilt once the file no
+ * longer has the size and modification time recorded in it. Building the index also validates every person, so
+ * that an invalid file is reported when it is opened rather than when one of its persons is shown, and an index is
+ * only saved for a valid file. The most recently read persons are kept in a bounded cache, so that the persons are
+ * never all in memory at once.
+ * Once the address book has been loaded in full, its persons are served from the loaded address book instead,
+ * until they are released.
+ */
+public class IndexedAddressBookReader implements DeferredAddressBook {
+
+    public static final int DEFAULT_MAX_CACHED_PERSONS = 10_000;
+
+    public static final String MESSAGE_INVALID_PERSON = "Person %d in %s could not be read: %s";
+    public static final String MESSAGE_FILE_CHANGED = "Data file %s has changed since it was opened.";
+    public static final String MESSAGE_RELEASED = "Persons of %s were released after it was loaded.";
+
+    private static final Logger logger = LogsCenter.getLogger(IndexedAddressBookReader.class);
+
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+    private static final byte[] INDEX_MAGIC = {'T', 'T', 'I', 'X'};
+    // Version 1 indexes were saved without validating the persons
+    private static final int INDEX_FORMAT_VERSION = 2;
+
+    private final Path filePath;
+    private final OffsetIndex index;
+    private final Map<Integer, Person> cachedPersons;
+    private final ObservableList<Person> persons;
+    private Optional<FileChannel> channel = Optional.empty();
+    private Optional<List<Person>> loadedPersons = Optional.empty();
+    private boolean isReleased;
+
+    private IndexedAddressBookReader(Path filePath, OffsetIndex index, int maxCachedPersons) {
+        this.filePath = filePath;
+        this.index = index;
+        // In access order, so that the least recently read person is the one dropped from a full cache
+        cachedPersons = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Person> eldest) {
+                return size() > maxCachedPersons;
+            }
+        };
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new AbstractList<>() {
+            @Override
+            public Person get(int i) {
+                return readPerson(i);
+            }
+
+            @Override
+            public int size() {
+                return index.size;
+            }
+        }));
+    }
+
+    /**
+     * Returns the path of the index of the address book file at {@code filePath}.
+     */
+    public static Path getIndexFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    /**
+     * Opens the JSON address book file at {@code filePath}, using its saved index if it is up to date, or building
+     * and saving a new one otherwise. At most {@code maxCachedPersons} persons are kept in memory until the address
+     * book is loaded in full. Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file is compressed, could not be read, is not in the expected format or
+     *     holds an invalid person.
+     */
+    public static Optional<IndexedAddressBookReader> open(Path filePath, int maxCachedPersons)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Optional<OffsetIndex> savedIndex = readIndex(filePath);
+        if (savedIndex.isPresent()) {
+            logger.info("Opened " + filePath + " with the " + savedIndex.get().size + " person(s) in its index");
+            return Optional.of(new IndexedAddressBookReader(filePath, savedIndex.get(), maxCachedPersons));
+        }
+
+        OffsetIndex index = new OffsetIndex();
+        JsonUtil.indexJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD, index::add);
+        IndexedAddressBookReader reader = new IndexedAddressBookReader(filePath, index, maxCachedPersons);
+        reader.validate();
+        try {
+            saveIndex(filePath, index);
+        } catch (IOException e) {
+            // The index only saves scanning the file on the next opening, so the file can be read without it
+            logger.warning("Index of " + filePath + " could not be saved: " + e.getMessage());
+        }
+        logger.info("Opened " + filePath + " after indexing its " + index.size + " person(s)");
+        return Optional.of(reader);
+    }
+
+    /**
+     * Reads and validates every person in the file, without keeping them.
+     *
+     * @throws DataLoadingException if a person could not be read or is not valid.
+     */
+    private synchronized void validate() throws DataLoadingException {
+        try {
+            for (int i = 0; i < index.size; i++) {
+                try {
+                    convertPerson(i);
+                } catch (IOException | IllegalValueException e) {
+                    throw new DataLoadingException(new IllegalValueException(
+                            String.format(MESSAGE_INVALID_PERSON, i, filePath, e.getMessage()), e));
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    /**
+     * Reads all the persons into a new {@code AddressBook}, validating them all, and then stops reading persons
+     * on demand, so that the file can be replaced. The persons are served from that address book from then on.
+     */
+    @Override
+    public synchronized AddressBook load() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(filePath).readAddressBook();
+        if (addressBook.isEmpty()) {
+            throw new DataLoadingException(new NoSuchFileException(filePath.toString()));
+        }
+        if (addressBook.get().getPersonList().size() != index.size) {
+            throw new DataLoadingException(new IllegalValueException(String.format(MESSAGE_FILE_CHANGED, filePath)));
+        }
+
+        close();
+        cachedPersons.clear();
+        AddressBook loaded = new AddressBook(addressBook.get());
+        loadedPersons = Optional.of(List.copyOf(loaded.getPersonList()));
+        return loaded;
+    }
+
+    /**
+     * Lets go of the persons kept since {@link #load()}. The person list must not be read afterwards.
+     */
+    @Override
+    public synchronized void release() {
+        loadedPersons = Optional.empty();
+        isReleased = true;
+    }
+
+    /**
+     * Returns the person at {@code position} in the file, reading it from the file if it is not in the cache.
+     *
+     * @throws UncheckedIOException if the person could not be read, as when the file has changed since it was opened.
+     * @throws IllegalStateException if the person read is not valid, or the persons have been released.
+     */
+    private synchronized Person readPerson(int position) {
+        if (position < 0 || position >= index.size) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        if (isReleased) {
+            throw new IllegalStateException(String.format(MESSAGE_RELEASED, filePath));
+        }
+        if (loadedPersons.isPresent()) {
+            return loadedPersons.get().get(position);
+        }
+        Person person = cachedPersons.get(position);
+        if (person != null) {
+            return person;
+        }
+
+        try {
+            person = convertPerson(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(
+                    String.format(MESSAGE_INVALID_PERSON, position, filePath, e.getMessage()), e);
+        } catch (IllegalValueException e) {
+            throw new IllegalStateException(
+                    String.format(MESSAGE_INVALID_PERSON, position, filePath, e.getMessage()), e);
+        }
+        cachedPersons.put(position, person);
+        return person;
+    }
+
+    private Person convertPerson(int position) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(readRecord(position), JsonAdaptedPerson.class).toModelType();
+    }
+
+    private String readRecord(int position) throws IOException {
+        if (channel.isEmpty()) {
+            channel = Optional.of(FileChannel.open(filePath, StandardOpenOption.READ));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(index.lengths[position]);
+        long startOffset = index.startOffsets[position];
+        while (buffer.hasRemaining()) {
+            if (channel.get().read(buffer, startOffset + buffer.position()) == -1) {
+                throw new EOFException(String.format(MESSAGE_FILE_CHANGED, filePath));
+            }
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    private void close() {
+        if (channel.isEmpty()) {
+            return;
+        }
+        try {
+            channel.get().close();
+        } catch (IOException e) {
+            logger.warning("Data file " + filePath + " could not be closed: " + e.getMessage());
+        }
+        channel = Optional.empty();
+    }
+
+    /**
+     * Returns the saved index of the file at {@code filePath}, if there is one and it is up to date.
+     */
+    private static Optional<OffsetIndex> readIndex(Path filePath) {
+        Path indexFile = getIndexFilePath(filePath);
+        if (!Files.exists(indexFile)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(indexFile));
+                DataInputStream data = new DataInputStream(in)) {
+            long fileSize = Files.size(filePath);
+            if (!Arrays.equals(data.readNBytes(INDEX_MAGIC.length), INDEX_MAGIC)
+                    || data.readInt() != INDEX_FORMAT_VERSION
+                    || data.readLong() != fileSize
+                    || data.readLong() != Files.getLastModifiedTime(filePath).toMillis()) {
+                logger.info("Index of " + filePath + " is out of date, and will be rebuilt");
+                return Optional.empty();
+            }
+
+            int count = data.readInt();
+            OffsetIndex index = new OffsetIndex();
+            for (int i = 0; i < count; i++) {
+                long startOffset = data.readLong();
+                long endOffset = startOffset + data.readInt();
+                if (startOffset < 0 || endOffset <= startOffset || endOffset > fileSize) {
+                    logger.warning("Index of " + filePath + " is invalid, and will be rebuilt");
+                    return Optional.empty();
+                }
+                index.add(startOffset, endOffset);
+            }
+            return Optional.of(index);
+        } catch (IOException e) {
+            logger.warning("Index of " + filePath + " could not be read, and will be rebuilt: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void saveIndex(Path filePath, OffsetIndex index) throws IOException {
+        long fileSize = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+        FileUtil.writeToFile(getIndexFilePath(filePath), out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.write(INDEX_MAGIC);
+            data.writeInt(INDEX_FORMAT_VERSION);
+            data.writeLong(fileSize);
+            data.writeLong(lastModified);
+            data.writeInt(index.size);
+            for (int i = 0; i < index.size; i++) {
+                data.writeLong(index.startOffsets[i]);
+                data.writeInt(index.lengths[i]);
+            }
+            data.flush();
+        });
+    }
+
+    /**
+     * The byte offsets and lengths of the persons in a file, in the order of the persons.
+     */
+    private static class OffsetIndex {
+        private long[] startOffsets = new long[16];
+        private int[] lengths = new int[16];
+        private int size;
+
+        void add(long startOffset, long endOffset) {
+            if (size == startOffsets.length) {
+                startOffsets = Arrays.copyOf(startOffsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            startOffsets[size] = startOffset;
+            lengths[size] = Math.toIntExact(endOffset - startOffset);
+            size++;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.AddressBookChange;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MESSAGE_INVALID_KIND = "Change kind must be one of ADD, REMOVE, REPLACE or RESET.";
+    public static final String MESSAGE_INVALID_PERSONS = "Change of kind %s has the wrong number of persons.";
+
+    private final String kind;
+    private final int position;
+    private final List<JsonAdaptedPerson> before = new ArrayList<>();
+    private final List<JsonAdaptedPerson> after = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("kind") String kind, @JsonProperty("position") int position,
+            @JsonProperty("before") List<JsonAdaptedPerson> before,
+            @JsonProperty("after") List<JsonAdaptedPerson> after) {
+        this.kind = kind;
+        this.position = position;
+        if (before != null) {
+            this.before.addAll(before);
+        }
+        if (after != null) {
+            this.after.addAll(after);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        kind = source.getKind().name();
+        position = source.getPosition();
+        source.getBefore().forEach(person -> before.add(new JsonAdaptedPerson(person)));
+        source.getAfter().forEach(person -> after.add(new JsonAdaptedPerson(person)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        AddressBookChange.Kind modelKind;
+        try {
+            modelKind = AddressBookChange.Kind.valueOf(String.valueOf(kind));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_KIND);
+        }
+
+        List<Person> modelBefore = toPersons(before);
+        List<Person> modelAfter = toPersons(after);
+        switch (modelKind) {
+        case ADD:
+            requireSizes(modelKind, modelBefore.isEmpty() && modelAfter.size() == 1);
+            return AddressBookChange.add(modelAfter.get(0));
+        case REMOVE:
+            requireSizes(modelKind, modelBefore.size() == 1 && modelAfter.isEmpty());
+            return AddressBookChange.remove(position, modelBefore.get(0));
+        case REPLACE:
+            requireSizes(modelKind, modelBefore.size() == 1 && modelAfter.size() == 1);
+            return AddressBookChange.replace(modelBefore.get(0), modelAfter.get(0));
+        case RESET:
+            return AddressBookChange.reset(modelBefore, modelAfter);
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_KIND);
+        }
+    }
+
+    private static List<Person> toPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            modelPersons.add(person.toModelType());
+        }
+        return modelPersons;
+    }
+
+    private static void requireSizes(AddressBookChange.Kind kind, boolean hasValidSizes) throws IllegalValueException {
+        if (!hasValidSizes) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSONS, kind));
+        }
+    }
+
+}
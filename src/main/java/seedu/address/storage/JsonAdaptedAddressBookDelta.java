@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.versionmanager.AddressBookChange;
+import seedu.address.model.versionmanager.AddressBookDelta;
+
+/**
+ * Jackson-friendly version of {@link AddressBookDelta}.
+ */
+class JsonAdaptedAddressBookDelta {
+
+    private final List<JsonAdaptedAddressBookChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookDelta} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookDelta(@JsonProperty("changes") List<JsonAdaptedAddressBookChange> changes) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts a given {@code AddressBookDelta} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookDelta(AddressBookDelta source) {
+        source.getChanges().forEach(change -> changes.add(new JsonAdaptedAddressBookChange(change)));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted delta object into the model's {@code AddressBookDelta} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted delta.
+     */
+    public AddressBookDelta toModelType() throws IllegalValueException {
+        List<AddressBookChange> modelChanges = new ArrayList<>();
+        for (JsonAdaptedAddressBookChange change : changes) {
+            modelChanges.add(change.toModelType());
+        }
+        return new AddressBookDelta(modelChanges);
+    }
+
+}
@@ -99,7 +99,7 @@ class JsonAdaptedAssignment {
         if (classGroupName == null || !Assignment.isValidClassGroupName(classGroupName)) {
             throw new IllegalValueException(Assignment.MESSAGE_CLASSGROUP_CONSTRAINTS);
         }
-        return new Assignment(assignmentName, classGroupName, isMarked);
+        return Assignment.of(assignmentName, classGroupName, isMarked);
     }
 
 }
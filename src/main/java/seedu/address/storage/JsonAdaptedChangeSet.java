@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeSet;
+
+/**
+ * Jackson-friendly version of {@link ChangeSet}.
+ */
+class JsonAdaptedChangeSet {
+
+    public static final String MESSAGE_UNMATCHED_REPLACEMENTS =
+            "Change set has a different number of replaced persons and replacements.";
+    public static final String MESSAGE_UNMATCHED_POSITIONS =
+            "Change set has a different number of added persons and positions.";
+
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+    private final List<Integer> addedPositions = new ArrayList<>();
+    private final List<JsonAdaptedPerson> removed = new ArrayList<>();
+    private final List<JsonAdaptedPerson> replacedTargets = new ArrayList<>();
+    private final List<JsonAdaptedPerson> replacedEdits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeSet} with the given persons.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeSet(@JsonProperty("added") List<JsonAdaptedPerson> added,
+            @JsonProperty("addedPositions") List<Integer> addedPositions,
+            @JsonProperty("removed") List<JsonAdaptedPerson> removed,
+            @JsonProperty("replacedTargets") List<JsonAdaptedPerson> replacedTargets,
+            @JsonProperty("replacedEdits") List<JsonAdaptedPerson> replacedEdits) {
+        if (added != null) {
+            this.added.addAll(added);
+        }
+        if (addedPositions != null) {
+            this.addedPositions.addAll(addedPositions);
+        }
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (replacedTargets != null) {
+            this.replacedTargets.addAll(replacedTargets);
+        }
+        if (replacedEdits != null) {
+            this.replacedEdits.addAll(replacedEdits);
+        }
+    }
+
+    /**
+     * Converts a given {@code ChangeSet} into this class for Jackson use, together with {@code addedPositions}, the
+     * positions in the person list of the persons the change set added.
+     */
+    public JsonAdaptedChangeSet(ChangeSet source, List<Integer> addedPositions) {
+        source.getAdded().forEach(person -> added.add(new JsonAdaptedPerson(person)));
+        this.addedPositions.addAll(addedPositions);
+        source.getRemoved().forEach(person -> removed.add(new JsonAdaptedPerson(person)));
+        source.getReplaced().forEach(replacement -> {
+            replacedTargets.add(new JsonAdaptedPerson(replacement.getTarget()));
+            replacedEdits.add(new JsonAdaptedPerson(replacement.getEdited()));
+        });
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change set object into the model's {@code ChangeSet} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change set.
+     */
+    public ChangeSet toModelType() throws IllegalValueException {
+        if (replacedTargets.size() != replacedEdits.size()) {
+            throw new IllegalValueException(MESSAGE_UNMATCHED_REPLACEMENTS);
+        }
+        if (!addedPositions.isEmpty() && addedPositions.size() != added.size()) {
+            throw new IllegalValueException(MESSAGE_UNMATCHED_POSITIONS);
+        }
+
+        ChangeSet.Builder builder = new ChangeSet.Builder();
+        for (JsonAdaptedPerson person : removed) {
+            builder.remove(person.toModelType());
+        }
+        for (int i = 0; i < replacedTargets.size(); i++) {
+            builder.replace(replacedTargets.get(i).toModelType(), replacedEdits.get(i).toModelType());
+        }
+        for (JsonAdaptedPerson person : added) {
+            builder.add(person.toModelType());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the positions in the person list of the persons the change set added, in the order of
+     * {@link ChangeSet#getAdded()}, or an empty list if they were not recorded.
+     */
+    public List<Integer> getAddedPositions() {
+        return Collections.unmodifiableList(addedPositions);
+    }
+
+}
@@ -42,7 +42,7 @@ class JsonAdaptedClassGroup {
         if (!ClassGroup.isValidClassGroupName(classGroupName)) {
             throw new IllegalValueException(ClassGroup.MESSAGE_CONSTRAINTS);
         }
-        return new ClassGroup(classGroupName);
+        return ClassGroup.of(classGroupName);
     }
 
 }
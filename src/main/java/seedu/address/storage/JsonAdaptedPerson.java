@@ -1,7 +1,6 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -10,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.PersistentHashSet;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.classgroup.ClassGroup;
 import seedu.address.model.person.Level;
@@ -102,10 +102,10 @@ class JsonAdaptedPerson {
         if (!Level.isValidLevel(level)) {
             throw new IllegalValueException(Level.MESSAGE_CONSTRAINTS);
         }
-        final Level modelLevel = new Level(level);
+        final Level modelLevel = Level.of(level);
 
-        final Set<ClassGroup> modelClasses = new HashSet<>(personClasses);
-        final Set<Assignment> modelAssignments = new HashSet<>(personAssignments);
+        final Set<ClassGroup> modelClasses = PersistentHashSet.copyOf(personClasses);
+        final Set<Assignment> modelAssignments = PersistentHashSet.copyOf(personAssignments);
         return new Person(modelName, modelPhone, modelLevel, modelClasses, modelAssignments);
     }
 
@@ -0,0 +1,42 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly entry of a segment file of a {@link ShardedAddressBookStorage}: a person, and the key that
+ * places it in the order of the persons across all the segments.
+ */
+class JsonAdaptedSegmentEntry {
+
+    private final long orderKey;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentEntry} with the given order key and person.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentEntry(@JsonProperty("orderKey") long orderKey,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.orderKey = orderKey;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code Person} and its order key into this class for Jackson use.
+     */
+    public JsonAdaptedSegmentEntry(long orderKey, Person person) {
+        this(orderKey, new JsonAdaptedPerson(person));
+    }
+
+    public long getOrderKey() {
+        return orderKey;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+
+}
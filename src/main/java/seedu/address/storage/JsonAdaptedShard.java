@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly description of one segment file of a {@link ShardedAddressBookStorage}.
+ */
+class JsonAdaptedShard {
+
+    private final String classGroup;
+    private final String file;
+    private final int size;
+
+    /**
+     * Constructs a {@code JsonAdaptedShard} for the segment file {@code file}, which holds the {@code size} persons
+     * whose partition is {@code classGroup}.
+     */
+    @JsonCreator
+    public JsonAdaptedShard(@JsonProperty("classGroup") String classGroup, @JsonProperty("file") String file,
+            @JsonProperty("size") int size) {
+        this.classGroup = classGroup;
+        this.file = file;
+        this.size = size;
+    }
+
+    public String getClassGroup() {
+        return classGroup;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+}
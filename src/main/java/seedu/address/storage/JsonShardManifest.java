@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a {@link ShardedAddressBookStorage}, which lists its segment files.
+ * The order of the persons is kept in the segment files, so the manifest only grows with the number of segments.
+ */
+class JsonShardManifest {
+
+    public static final String GENERATION_FIELD = "generation";
+    public static final String SHARDS_FIELD = "shards";
+
+    private static final Set<String> FIELDS = Set.of(GENERATION_FIELD, SHARDS_FIELD);
+
+    private final long generation;
+    private final List<JsonAdaptedShard> shards;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given segments. The segment files were written by the save
+     * numbered {@code generation}, or an earlier one.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty(GENERATION_FIELD) long generation,
+            @JsonProperty(SHARDS_FIELD) List<JsonAdaptedShard> shards) {
+        this.generation = generation;
+        this.shards = shards == null ? null : new ArrayList<>(shards);
+    }
+
+    /**
+     * Returns true if {@code fieldName} is the name of a field of a manifest, and not of an address book file.
+     */
+    public static boolean isManifestField(String fieldName) {
+        return FIELDS.contains(fieldName);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns true if this was read from a manifest, rather than from a file in another format.
+     */
+    public boolean isManifest() {
+        return shards != null;
+    }
+
+    public List<JsonAdaptedShard> getShards() {
+        return shards;
+    }
+
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.versionmanager.AddressBookDelta;
+import seedu.address.model.versionmanager.SpilledVersionStore;
+
+/**
+ * A {@link SpilledVersionStore} that keeps spilled versions in a temporary file in a given directory.
+ * <p>
+ * Each version is appended to the file as a single line of compact JSON, and the offset of every version
+ * is kept in memory, so that paging a version back in reads only that version and then truncates it off the file.
+ * The file is only created when the first version is spilled, and is deleted when the application exits.
+ */
+public class JsonSpilledVersionStore implements SpilledVersionStore {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSpilledVersionStore.class);
+
+    private static final String FILE_PREFIX = "tutortrack-undo-";
+    private static final String FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private Optional<Path> file = Optional.empty();
+    // Start offsets of the spilled versions in the file, with the most recent version last
+    private final Deque<Long> offsets = new ArrayDeque<>();
+    // Offset just past the most recent version; anything after it in the file is no longer in use
+    private long end;
+
+    /**
+     * Constructs a {@code JsonSpilledVersionStore} that spills versions to a temporary file in {@code directory}.
+     */
+    public JsonSpilledVersionStore(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the file the versions are spilled to, if any version has been spilled.
+     */
+    public Optional<Path> getFilePath() {
+        return file;
+    }
+
+    @Override
+    public void push(AddressBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        byte[] bytes = (JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookDelta(delta)) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(getOrCreateFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), end);
+        }
+        offsets.addLast(end);
+        end += bytes.length;
+    }
+
+    @Override
+    public AddressBookDelta pop() throws IOException {
+        assert !offsets.isEmpty() : "No spilled version to page in";
+        long start = offsets.removeLast();
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+        try (FileChannel channel = FileChannel.open(file.orElseThrow(), StandardOpenOption.WRITE,
+                StandardOpenOption.READ)) {
+            int read;
+            do {
+                read = channel.read(buffer, start + buffer.position());
+            } while (read >= 0 && buffer.hasRemaining());
+            channel.truncate(start);
+        }
+        end = start;
+
+        String json = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        try {
+            return JsonUtil.fromJsonString(json, JsonAdaptedAddressBookDelta.class).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Spilled undo history is corrupted: " + ive.getMessage(), ive);
+        }
+    }
+
+    @Override
+    public void dropOldest() {
+        assert !offsets.isEmpty() : "No spilled version to drop";
+        offsets.removeFirst();
+        if (offsets.isEmpty()) {
+            clear();
+        }
+    }
+
+    @Override
+    public int size() {
+        return offsets.size();
+    }
+
+    @Override
+    public void clear() {
+        offsets.clear();
+        end = 0;
+        if (file.isEmpty()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.get(), StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+        } catch (IOException ioe) {
+            // The stale contents are overwritten by later versions anyway
+            logger.warning("Could not truncate spilled undo history " + file.get() + ": " + ioe.getMessage());
+        }
+    }
+
+    private Path getOrCreateFile() throws IOException {
+        if (file.isEmpty()) {
+            Files.createDirectories(directory);
+            Path created = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+            created.toFile().deleteOnExit();
+            logger.info("Spilling older undo history to " + created);
+            file = Optional.of(created);
+        }
+        return file.get();
+    }
+
+}
@@ -0,0 +1,542 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.AddressBookChange;
+import seedu.address.model.versionmanager.AddressBookDelta;
+import seedu.address.model.versionmanager.UndoJournal;
+
+/**
+ * An {@link UndoJournal} kept in an append-only text file, one record per line.
+ * <p>
+ * The file starts with a checkpoint record {@code K <fingerprint>} holding the fingerprint of the persons in the
+ * address book before the oldest version in the file. It is followed by commit records
+ * {@code C <fingerprint> <delta>}, holding the fingerprint of the persons after the commit and the committed delta
+ * as compact JSON, and by undo ({@code U}) and redo ({@code R}) records. Opening a journal replays only the record
+ * headers to find where each undoable version is, and each version's delta is read only when it is paged back in.
+ * <p>
+ * A fingerprint is the sum of a hash of every field of each person, so that a commit's fingerprint follows from
+ * the previous one and the persons its delta adds and removes. The journal is only restored if its most recent
+ * fingerprint is that of the persons in the data file, which rules out a journal whose last commits were never
+ * saved, or a data file changed outside the application. The persons are only fingerprinted when the journal is
+ * first used, as that reads every person, which a data file opened without being loaded in full would put off.
+ * <p>
+ * Once the journal holds more stale records than live ones, it is rewritten as a new checkpoint followed by
+ * the live versions only.
+ */
+public class JsonUndoJournal implements UndoJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonUndoJournal.class);
+
+    private static final String JOURNAL_FILE_SUFFIX = ".undo";
+    private static final String CHECKPOINT = "K";
+    private static final String COMMIT = "C";
+    private static final String UNDO = "U";
+    private static final String REDO = "R";
+    // Stale records tolerated beyond the number of live ones before the journal is rewritten
+    private static final int COMPACTION_SLACK = 64;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Path file;
+    // Undoable versions, oldest first, and undone versions, most recently undone first
+    private final List<Entry> undoEntries = new ArrayList<>();
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    // Persons of the data file, until the journal is first used and they are matched against it
+    private Optional<List<Person>> unmatchedPersons;
+    private boolean isReplayed;
+    private long baseFingerprint;
+    // Number of the oldest undoable versions that are not on the heap
+    private int spilled;
+    // Number of records after the checkpoint, live or stale
+    private int recordCount;
+    private long end;
+    private boolean isBroken;
+
+    /**
+     * Opens the journal in {@code file} for a data file holding {@code persons}. When the journal is first used,
+     * the undoable versions in it are restored as spilled versions if its most recent version led to those
+     * persons. Otherwise, or if there is no journal yet, a new journal is started from those persons.
+     * {@code persons} must not change until then.
+     *
+     * @throws IOException if there was any problem reading the file.
+     */
+    public JsonUndoJournal(Path file, List<Person> persons) throws IOException {
+        requireAllNonNull(file, persons);
+        this.file = file;
+        unmatchedPersons = Optional.of(persons);
+        isReplayed = Files.exists(file) && replay();
+    }
+
+    /**
+     * Returns the path of the undo journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return file;
+    }
+
+    @Override
+    public void appendCommit(AddressBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        checkUsable();
+        long fingerprintAfter = getCurrentFingerprint() + getFingerprintChange(delta);
+        byte[] header = (COMMIT + " " + Long.toHexString(fingerprintAfter) + " ").getBytes(StandardCharsets.UTF_8);
+        byte[] payload = JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookDelta(delta))
+                .getBytes(StandardCharsets.UTF_8);
+
+        append(header, payload);
+        undoEntries.add(new Entry(end - payload.length - 1, payload.length, fingerprintAfter));
+        redoEntries.clear();
+        compactIfNeeded();
+    }
+
+    @Override
+    public void appendUndo() throws IOException {
+        checkUsable();
+        assert !undoEntries.isEmpty() : "No version to undo";
+        append(UNDO.getBytes(StandardCharsets.UTF_8), new byte[0]);
+        redoEntries.push(undoEntries.remove(undoEntries.size() - 1));
+        spilled = Math.min(spilled, undoEntries.size());
+    }
+
+    @Override
+    public void appendRedo() throws IOException {
+        checkUsable();
+        assert !redoEntries.isEmpty() : "No version to redo";
+        append(REDO.getBytes(StandardCharsets.UTF_8), new byte[0]);
+        undoEntries.add(redoEntries.pop());
+    }
+
+    @Override
+    public void discardOldest() {
+        assert !undoEntries.isEmpty() : "No version to discard";
+        // Discarding is not recorded, so a journal reopened before its next checkpoint restores too many versions,
+        // which the version manager trims at its next commit
+        baseFingerprint = undoEntries.remove(0).fingerprintAfter;
+        spilled = Math.max(0, spilled - 1);
+    }
+
+    @Override
+    public void reset(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        unmatchedPersons = Optional.empty();
+        checkUsable();
+        startNew(getFingerprint(persons));
+    }
+
+    /**
+     * Marks the oldest undoable version not yet spilled as spilled. Since every committed version is already in
+     * the journal, {@code delta} is not written again.
+     */
+    @Override
+    public void push(AddressBookDelta delta) throws IOException {
+        requireNonNull(delta);
+        checkUsable();
+        assert spilled < undoEntries.size() : "Spilled version was never committed to the journal";
+        spilled++;
+    }
+
+    @Override
+    public AddressBookDelta pop() throws IOException {
+        checkUsable();
+        assert spilled > 0 : "No spilled version to page in";
+        AddressBookDelta delta = readDelta(undoEntries.get(spilled - 1));
+        spilled--;
+        return delta;
+    }
+
+    @Override
+    public void dropOldest() {
+        discardOldest();
+    }
+
+    @Override
+    public void matchPersons() {
+        matchIfNeeded();
+    }
+
+    @Override
+    public int size() {
+        matchIfNeeded();
+        return isBroken ? 0 : spilled;
+    }
+
+    @Override
+    public void clear() {
+        matchIfNeeded();
+        while (spilled > 0) {
+            discardOldest();
+        }
+    }
+
+    //=========== Matching ===================================================================================
+
+    /**
+     * Matches the journal against the persons of the data file, if that has not been done yet, restoring its
+     * versions if they match and starting a new journal otherwise.
+     */
+    private void match() throws IOException {
+        if (unmatchedPersons.isEmpty()) {
+            return;
+        }
+        long fingerprint = getFingerprint(unmatchedPersons.get());
+        unmatchedPersons = Optional.empty();
+
+        if (isReplayed && getCurrentFingerprint() == fingerprint) {
+            spilled = undoEntries.size();
+            logger.info("Restored " + spilled + " undoable version(s) from " + file);
+            // Undone versions cannot be redone in a new session, so they are left out of the checkpoint
+            if (!redoEntries.isEmpty() || needsCompaction()) {
+                redoEntries.clear();
+                compact();
+            }
+            return;
+        }
+        if (Files.exists(file)) {
+            logger.warning("Undo journal " + file + " does not match the data file, starting a new journal");
+        }
+        startNew(fingerprint);
+    }
+
+    /**
+     * Matches the journal as {@link #match()} does, for operations that cannot report a failure to write it.
+     * The journal is abandoned if the write fails, and the failure is reported by the next operation that can.
+     */
+    private void matchIfNeeded() {
+        try {
+            match();
+        } catch (IOException ioe) {
+            logger.warning("Could not open undo journal " + file + ": " + ioe.getMessage());
+            undoEntries.clear();
+            redoEntries.clear();
+            spilled = 0;
+            isBroken = true;
+        }
+    }
+
+    //=========== Reading ====================================================================================
+
+    /**
+     * Replays the records in the file, without reading the deltas they hold.
+     * A trailing record that was only partly written is truncated off the file.
+     * Returns false if the file does not start with a checkpoint or holds an invalid record.
+     */
+    private boolean replay() throws IOException {
+        long position = 0;
+        long recordStart = 0;
+        long payloadStart = -1;
+        StringBuilder recordHeader = new StringBuilder();
+        boolean hasCheckpoint = false;
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    String header = recordHeader.toString().trim();
+                    boolean isValid = hasCheckpoint
+                            ? replayRecord(header, payloadStart, position - 1)
+                            : replayCheckpoint(header, payloadStart);
+                    if (!isValid) {
+                        return false;
+                    }
+                    hasCheckpoint = true;
+                    recordStart = position;
+                    payloadStart = -1;
+                    recordHeader.setLength(0);
+                } else if (payloadStart < 0 && b == '{') {
+                    payloadStart = position - 1;
+                } else if (payloadStart < 0) {
+                    recordHeader.append((char) b);
+                }
+            }
+        }
+
+        end = recordStart;
+        if (position > end) {
+            logger.warning("Discarding incomplete record at the end of undo journal " + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+        return hasCheckpoint;
+    }
+
+    private boolean replayCheckpoint(String header, long payloadStart) {
+        String[] fields = header.split(" ");
+        if (payloadStart >= 0 || fields.length != 2 || !fields[0].equals(CHECKPOINT)) {
+            return false;
+        }
+        try {
+            baseFingerprint = Long.parseUnsignedLong(fields[1], 16);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return true;
+    }
+
+    private boolean replayRecord(String header, long payloadStart, long payloadEnd) {
+        recordCount++;
+        if (header.equals(UNDO) && payloadStart < 0 && !undoEntries.isEmpty()) {
+            redoEntries.push(undoEntries.remove(undoEntries.size() - 1));
+            return true;
+        }
+        if (header.equals(REDO) && payloadStart < 0 && !redoEntries.isEmpty()) {
+            undoEntries.add(redoEntries.pop());
+            return true;
+        }
+
+        String[] fields = header.split(" ");
+        if (payloadStart < 0 || fields.length != 2 || !fields[0].equals(COMMIT)) {
+            return false;
+        }
+        try {
+            long fingerprintAfter = Long.parseUnsignedLong(fields[1], 16);
+            undoEntries.add(new Entry(payloadStart, Math.toIntExact(payloadEnd - payloadStart), fingerprintAfter));
+            redoEntries.clear();
+            return true;
+        } catch (NumberFormatException | ArithmeticException e) {
+            return false;
+        }
+    }
+
+    private AddressBookDelta readDelta(Entry entry) throws IOException {
+        String json = new String(readPayload(entry), StandardCharsets.UTF_8);
+        try {
+            return JsonUtil.fromJsonString(json, JsonAdaptedAddressBookDelta.class).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Undo journal is corrupted: " + ive.getMessage(), ive);
+        }
+    }
+
+    private byte[] readPayload(Entry entry) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int read;
+            do {
+                read = channel.read(buffer, entry.offset + buffer.position());
+            } while (read >= 0 && buffer.hasRemaining());
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Undo journal " + file + " ends in the middle of a version");
+        }
+        return buffer.array();
+    }
+
+    //=========== Writing ====================================================================================
+
+    private void startNew(long fingerprint) throws IOException {
+        undoEntries.clear();
+        redoEntries.clear();
+        baseFingerprint = fingerprint;
+        spilled = 0;
+        recordCount = 0;
+
+        byte[] checkpoint = (CHECKPOINT + " " + Long.toHexString(fingerprint) + "\n").getBytes(StandardCharsets.UTF_8);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, checkpoint);
+        end = checkpoint.length;
+    }
+
+    /**
+     * Appends a record made of {@code header} and {@code payload} to the file.
+     * If the record cannot be written in full, the journal is deleted, as it can no longer be trusted.
+     */
+    private void append(byte[] header, byte[] payload) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(header.length + payload.length + 1)
+                .put(header).put(payload).put((byte) '\n');
+        record.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            while (record.hasRemaining()) {
+                channel.write(record, end + record.position());
+            }
+        } catch (IOException ioe) {
+            isBroken = true;
+            Files.deleteIfExists(file);
+            throw ioe;
+        }
+        end += record.limit();
+        recordCount++;
+    }
+
+    private boolean needsCompaction() {
+        int liveCount = undoEntries.size() + redoEntries.size();
+        return recordCount - liveCount > liveCount + COMPACTION_SLACK;
+    }
+
+    private void compactIfNeeded() {
+        if (!needsCompaction()) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException ioe) {
+            // The journal is still valid, just larger than it needs to be
+            logger.warning("Could not compact undo journal " + file + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Rewrites the journal as a checkpoint followed by the live versions, replacing the file atomically.
+     * Undone versions are written as commits followed by an undo record each, so they can still be redone.
+     */
+    private void compact() throws IOException {
+        List<Entry> live = new ArrayList<>(undoEntries);
+        redoEntries.forEach(live::add);
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        List<Entry> rewritten = new ArrayList<>();
+        long position;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            byte[] checkpoint = (CHECKPOINT + " " + Long.toHexString(baseFingerprint) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            out.write(checkpoint);
+            position = checkpoint.length;
+            for (Entry entry : live) {
+                byte[] header = (COMMIT + " " + Long.toHexString(entry.fingerprintAfter) + " ")
+                        .getBytes(StandardCharsets.UTF_8);
+                out.write(header);
+                out.write(readPayload(entry));
+                out.write('\n');
+                rewritten.add(new Entry(position + header.length, entry.length, entry.fingerprintAfter));
+                position += header.length + entry.length + 1;
+            }
+            for (int i = 0; i < redoEntries.size(); i++) {
+                out.write((UNDO + "\n").getBytes(StandardCharsets.UTF_8));
+                position += UNDO.length() + 1;
+            }
+        }
+        FileUtil.moveAtomically(temp, file);
+
+        int undoCount = undoEntries.size();
+        undoEntries.clear();
+        undoEntries.addAll(rewritten.subList(0, undoCount));
+        redoEntries.clear();
+        rewritten.subList(undoCount, rewritten.size()).forEach(redoEntries::addLast);
+        recordCount = rewritten.size() + redoEntries.size();
+        end = position;
+        logger.fine(() -> "Compacted undo journal " + file + " to " + undoCount + " undoable version(s)");
+    }
+
+    //=========== Utility ====================================================================================
+
+    private void checkUsable() throws IOException {
+        match();
+        if (isBroken) {
+            throw new IOException("Undo journal " + file + " could not be written and has been abandoned");
+        }
+    }
+
+    private long getCurrentFingerprint() {
+        return undoEntries.isEmpty() ? baseFingerprint : undoEntries.get(undoEntries.size() - 1).fingerprintAfter;
+    }
+
+    private static long getFingerprintChange(AddressBookDelta delta) {
+        long fingerprintChange = 0;
+        for (AddressBookChange change : delta.getChanges()) {
+            fingerprintChange += getFingerprint(change.getAfter()) - getFingerprint(change.getBefore());
+        }
+        return fingerprintChange;
+    }
+
+    /**
+     * Returns the fingerprint of {@code persons}, which does not depend on their order.
+     */
+    static long getFingerprint(List<Person> persons) {
+        long fingerprint = 0;
+        for (Person person : persons) {
+            fingerprint += getFingerprint(person);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns a hash of every field of {@code person}, including letter case and marked status, which is the same
+     * in every session. The class groups and assignments are hashed without regard to their order.
+     */
+    private static long getFingerprint(Person person) {
+        long classGroups = 0;
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            classGroups += mix(hash(FNV_OFFSET_BASIS, classGroup.classGroupName));
+        }
+        long assignments = 0;
+        for (Assignment assignment : person.getAssignments()) {
+            long hash = hash(hash(FNV_OFFSET_BASIS, assignment.classGroupName), assignment.assignmentName);
+            assignments += mix(assignment.isMarked() ? ~hash : hash);
+        }
+
+        long hash = hash(FNV_OFFSET_BASIS, person.getName().fullName);
+        hash = hash(hash, person.getPhone().value);
+        hash = hash(hash, person.getLevel().value);
+        return mix(mix(hash + classGroups) + assignments);
+    }
+
+    /**
+     * Continues the 64-bit FNV-1a hash {@code hash} with the characters of {@code value} and a separator.
+     */
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xffff) * FNV_PRIME;
+    }
+
+    /**
+     * Spreads the bits of {@code hash}, so that sums of mixed hashes rarely collide.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * The position of a committed version's delta in the file, and the fingerprint of the persons after it was
+     * committed.
+     */
+    private static class Entry {
+        private final long offset;
+        private final int length;
+        private final long fingerprintAfter;
+
+        Entry(long offset, int length, long fingerprintAfter) {
+            this.offset = offset;
+            this.length = length;
+            this.fingerprintAfter = fingerprintAfter;
+        }
+    }
+
+}
@@ -0,0 +1,512 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.classgroup.ClassGroup;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as one JSON segment file per class group, so that a save rewrites only
+ * the segments whose persons changed.
+ * <p>
+ * Each person is kept in the segment of the first of its class groups in alphabetical order, and persons without a
+ * class group are kept in a segment of their own. The segment files are kept in a directory next to the data file,
+ * and the data file holds a manifest that lists them.
+ * <p>
+ * Each person is stored with an order key, and the persons of the address book are those of all the segments in
+ * the order of their keys. Persons keep their keys from one save to the next, and a person added between two others
+ * is given a key between theirs, so that adding or removing a person changes only its own segment, and the
+ * manifest grows with the number of segments rather than the number of persons.
+ * <p>
+ * A save writes each changed segment to a new file, replaces the manifest atomically, and only then deletes the
+ * segment files that the manifest no longer lists, so a crash at any point leaves either the old or the new address
+ * book. Segments are read in parallel.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_SHARDED = "Data file is not a manifest of segment files.";
+    public static final String MESSAGE_INVALID_MANIFEST = "Manifest %s does not match its segment files.";
+    public static final String MESSAGE_INVALID_SEGMENT = "Segment file %s has an entry without a person.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SEGMENT_DIRECTORY_SUFFIX = ".shards";
+    private static final String SEGMENT_FILE_SUFFIX = ".json";
+    private static final String SEGMENT_FILE_REGEX = "\\d+-\\d+\\.json";
+    private static final String NO_CLASS_GROUP = "";
+    private static final String ENTRIES_FIELD = "entries";
+    // Gap left between the order keys of persons given new keys, so that persons can later be added between them
+    private static final long ORDER_KEY_SPACING = 1L << 20;
+
+    private final Path filePath;
+    private final boolean isCompressed;
+
+    // Segments of the data file as last read or saved; a save keeps those whose persons are all the same objects
+    private Map<String, Segment> savedSegments = Map.of();
+    private long generation = -1;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the manifest at {@code filePath}, which saves the segment files compressed if
+     * {@code isCompressed} is true.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Returns the path of the directory holding the segment files of the manifest at {@code filePath}.
+     */
+    public static Path getSegmentDirectoryPath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENT_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is a manifest of segment files.
+     * Only the first field name is read, so that a large address book file is not parsed to tell it apart.
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath) || BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return false;
+        }
+        try {
+            return JsonUtil.readFirstFieldName(filePath).map(JsonShardManifest::isManifestField).orElse(false);
+        } catch (DataLoadingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the segment files of the manifest at {@code filePath}, and their directory if it is then empty.
+     * Used once the manifest has been replaced by a data file in another format.
+     */
+    public static void deleteSegments(Path filePath) throws IOException {
+        Path directory = getSegmentDirectoryPath(filePath);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        deleteSegmentsExcept(directory, Map.of());
+        try (Stream<Path> files = Files.list(directory)) {
+            if (files.findAny().isEmpty()) {
+                Files.delete(directory);
+            }
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            throw new DataLoadingException(new IllegalValueException(MESSAGE_NOT_SHARDED));
+        }
+
+        List<JsonAdaptedShard> shards = manifest.get().getShards();
+        List<Segment> segments = readSegments(filePath, shards);
+        AddressBook addressBook = merge(filePath, shards, segments);
+        if (filePath.equals(this.filePath)) {
+            Map<String, Segment> loadedSegments = new HashMap<>();
+            for (int i = 0; i < shards.size(); i++) {
+                String classGroup = shards.get(i).getClassGroup();
+                loadedSegments.put(classGroup == null ? NO_CLASS_GROUP : classGroup, segments.get(i));
+            }
+            savedSegments = loadedSegments;
+            generation = manifest.get().getGeneration();
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the segments of the data file whose persons changed since it was last read or saved are rewritten.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        boolean isDataFile = filePath.equals(this.filePath);
+        Map<String, Segment> previousSegments = isDataFile ? savedSegments : Map.of();
+        Path directory = getSegmentDirectoryPath(filePath);
+        long nextGeneration = (isDataFile && generation >= 0 ? generation : findLastGeneration(directory)) + 1;
+
+        List<Person> persons = addressBook.getPersonList();
+        long[] orderKeys = assignOrderKeys(persons, previousSegments.values());
+        Map<String, List<Integer>> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            partitions.computeIfAbsent(getPartition(persons.get(i)), unused -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, Segment> segments = new LinkedHashMap<>();
+        List<JsonAdaptedShard> shards = new ArrayList<>();
+        int writtenCount = 0;
+        for (Map.Entry<String, List<Integer>> partition : partitions.entrySet()) {
+            List<Person> segmentPersons = partition.getValue().stream().map(persons::get).toList();
+            long[] segmentKeys = partition.getValue().stream().mapToLong(i -> orderKeys[i]).toArray();
+            Segment segment = previousSegments.get(partition.getKey());
+            if (segment == null || !segment.hasSameEntries(segmentPersons, segmentKeys)) {
+                String file = nextGeneration + "-" + writtenCount + SEGMENT_FILE_SUFFIX;
+                segment = new Segment(file, segmentPersons, segmentKeys);
+                saveSegment(segment, directory.resolve(file));
+                writtenCount++;
+            }
+            segments.put(partition.getKey(), segment);
+            shards.add(new JsonAdaptedShard(partition.getKey(), segment.file, segment.persons.size()));
+        }
+
+        // Until the manifest is replaced, it still lists the old segment files, which are left untouched
+        JsonUtil.saveJsonFile(new JsonShardManifest(nextGeneration, shards), filePath);
+        logger.fine("Rewrote " + writtenCount + " of " + shards.size() + " segment(s) of " + filePath);
+        if (isDataFile) {
+            savedSegments = segments;
+            generation = nextGeneration;
+        }
+        deleteSegmentsExcept(directory, segments);
+    }
+
+    /**
+     * Returns an order key for each of {@code persons}, increasing along the list. Persons still in
+     * {@code previousSegments} keep their key where the order of the persons allows, and the other persons are given
+     * keys spread out between those of their neighbours. If there is no room between two keys, all the persons are
+     * given new keys.
+     */
+    private static long[] assignOrderKeys(List<Person> persons, Collection<Segment> previousSegments) {
+        Map<Person, Long> previousKeys = new IdentityHashMap<>();
+        for (Segment segment : previousSegments) {
+            for (int i = 0; i < segment.persons.size(); i++) {
+                previousKeys.put(segment.persons.get(i), segment.orderKeys[i]);
+            }
+        }
+
+        long[] keys = new long[persons.size()];
+        boolean[] isKept = new boolean[persons.size()];
+        long lastKeptKey = Long.MIN_VALUE;
+        for (int i = 0; i < persons.size(); i++) {
+            Long previousKey = previousKeys.get(persons.get(i));
+            if (previousKey != null && previousKey > lastKeptKey) {
+                keys[i] = previousKey;
+                isKept[i] = true;
+                lastKeptKey = previousKey;
+            }
+        }
+
+        int start = 0;
+        while (start < persons.size()) {
+            int end = start;
+            while (end < persons.size() && !isKept[end]) {
+                end++;
+            }
+            if (end > start && !fillOrderKeys(keys, start, end)) {
+                for (int i = 0; i < persons.size(); i++) {
+                    keys[i] = i * ORDER_KEY_SPACING;
+                }
+                return keys;
+            }
+            start = end + 1;
+        }
+        return keys;
+    }
+
+    /**
+     * Gives the persons from {@code start} to {@code end}, exclusive, keys between those of the kept persons just
+     * before and after them. Returns false if there is no room for them.
+     */
+    private static boolean fillOrderKeys(long[] keys, int start, int end) {
+        int count = end - start;
+        boolean hasLower = start > 0;
+        boolean hasUpper = end < keys.length;
+        try {
+            long step = ORDER_KEY_SPACING;
+            long first;
+            if (hasLower && hasUpper) {
+                step = Math.subtractExact(keys[end], keys[start - 1]) / (count + 1);
+                first = keys[start - 1] + step;
+            } else if (hasLower) {
+                first = Math.addExact(keys[start - 1], step);
+            } else if (hasUpper) {
+                first = Math.subtractExact(keys[end], Math.multiplyExact(step, count));
+            } else {
+                first = 0;
+            }
+            if (step == 0) {
+                return false;
+            }
+            for (int i = start; i < end; i++) {
+                keys[i] = Math.addExact(first, Math.multiplyExact(step, i - start));
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the class group whose segment {@code person} is kept in.
+     */
+    private static String getPartition(Person person) {
+        String partition = null;
+        for (ClassGroup classGroup : person.getClassGroups()) {
+            if (partition == null || classGroup.classGroupName.compareTo(partition) < 0) {
+                partition = classGroup.classGroupName;
+            }
+        }
+        return partition == null ? NO_CLASS_GROUP : partition;
+    }
+
+    /**
+     * Reads the segment files listed in the manifest at {@code filePath}, in parallel.
+     */
+    private static List<Segment> readSegments(Path filePath, List<JsonAdaptedShard> shards)
+            throws DataLoadingException {
+        Path directory = getSegmentDirectoryPath(filePath);
+        for (JsonAdaptedShard shard : shards) {
+            if (shard.getFile() == null || !shard.getFile().matches(SEGMENT_FILE_REGEX)) {
+                throw invalidManifest(filePath);
+            }
+        }
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(shards.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<Segment>> futures = new ArrayList<>();
+            for (JsonAdaptedShard shard : shards) {
+                futures.add(executor.submit(() -> readSegment(directory, shard.getFile())));
+            }
+            List<Segment> segments = new ArrayList<>();
+            for (Future<Segment> future : futures) {
+                segments.add(future.get());
+            }
+            return segments;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the segment file {@code file} in {@code directory}, converting its persons as they are parsed.
+     */
+    private static Segment readSegment(Path directory, String file) throws DataLoadingException {
+        Path segmentFile = directory.resolve(file);
+        List<Person> persons = new ArrayList<>();
+        List<Long> orderKeys = new ArrayList<>();
+        JsonUtil.ElementHandler<JsonAdaptedSegmentEntry> addEntry = entry -> {
+            if (entry.getPerson() == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, segmentFile));
+            }
+            persons.add(entry.getPerson().toModelType());
+            orderKeys.add(entry.getOrderKey());
+        };
+        try {
+            if (!JsonUtil.readJsonArrayFile(segmentFile, ENTRIES_FIELD, JsonAdaptedSegmentEntry.class, addEntry)) {
+                throw new DataLoadingException(new NoSuchFileException(segmentFile.toString()));
+            }
+        } catch (IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+        return new Segment(file, persons, orderKeys.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * Saves the persons of {@code segment} with their order keys to {@code segmentFile}.
+     */
+    private void saveSegment(Segment segment, Path segmentFile) throws IOException {
+        JsonUtil.saveJsonArrayFile(segmentFile, ENTRIES_FIELD, () -> IntStream.range(0, segment.persons.size())
+                .mapToObj(i -> new JsonAdaptedSegmentEntry(segment.orderKeys[i], segment.persons.get(i)))
+                .iterator(), isCompressed);
+    }
+
+    /**
+     * Returns an address book of the persons in {@code segments}, in the order of their order keys.
+     */
+    private static AddressBook merge(Path filePath, List<JsonAdaptedShard> shards, List<Segment> segments)
+            throws DataLoadingException {
+        for (int i = 0; i < shards.size(); i++) {
+            Segment segment = segments.get(i);
+            if (shards.get(i).getSize() != segment.persons.size()) {
+                throw invalidManifest(filePath);
+            }
+            for (int j = 1; j < segment.orderKeys.length; j++) {
+                if (segment.orderKeys[j] <= segment.orderKeys[j - 1]) {
+                    throw invalidManifest(filePath);
+                }
+            }
+        }
+
+        // Each segment is already in key order, so the next person is always at the head of one of them
+        int[] nextIndices = new int[segments.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Comparator.comparingLong(
+                segmentIndex -> segments.get(segmentIndex).orderKeys[nextIndices[segmentIndex]]));
+        for (int i = 0; i < segments.size(); i++) {
+            if (!segments.get(i).persons.isEmpty()) {
+                heads.add(i);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        long lastKey = Long.MIN_VALUE;
+        while (!heads.isEmpty()) {
+            int segmentIndex = heads.poll();
+            Segment segment = segments.get(segmentIndex);
+            int index = nextIndices[segmentIndex]++;
+            if (addressBook.getPersonList().size() > 0 && segment.orderKeys[index] == lastKey) {
+                throw invalidManifest(filePath);
+            }
+            lastKey = segment.orderKeys[index];
+            Person person = segment.persons.get(index);
+            if (addressBook.hasPerson(person)) {
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(person);
+            if (nextIndices[segmentIndex] < segment.persons.size()) {
+                heads.add(segmentIndex);
+            }
+        }
+        return addressBook;
+    }
+
+    private static DataLoadingException invalidManifest(Path filePath) {
+        return new DataLoadingException(new IllegalValueException(String.format(MESSAGE_INVALID_MANIFEST, filePath)));
+    }
+
+    /**
+     * Returns the generation of the newest segment file in {@code directory}, or 0 if it has none.
+     */
+    private static long findLastGeneration(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.matches(SEGMENT_FILE_REGEX))
+                    .mapToLong(name -> Long.parseLong(name.substring(0, name.indexOf('-'))))
+                    .max().orElse(0);
+        }
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} other than those of {@code segments}. Files that cannot be
+     * deleted are left for a later save to delete.
+     */
+    private static void deleteSegmentsExcept(Path directory, Map<String, Segment> segments) throws IOException {
+        Set<String> usedFiles = segments.values().stream().map(segment -> segment.file).collect(Collectors.toSet());
+        List<Path> unusedFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            unusedFiles = files.filter(file -> file.getFileName().toString().matches(SEGMENT_FILE_REGEX))
+                    .filter(file -> !usedFiles.contains(file.getFileName().toString()))
+                    .toList();
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        for (Path file : unusedFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warning("Unused segment file " + file + " could not be deleted: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A segment file, and the persons it holds with their order keys.
+     */
+    private static class Segment {
+        private final String file;
+        private final List<Person> persons;
+        private final long[] orderKeys;
+
+        Segment(String file, List<Person> persons, long[] orderKeys) {
+            this.file = file;
+            this.persons = persons;
+            this.orderKeys = orderKeys;
+        }
+
+        /**
+         * Returns true if {@code otherPersons} are the same person objects as those in this segment, in the same
+         * order and with the same order keys. Persons are immutable, so an edited person is always a different object.
+         */
+        boolean hasSameEntries(List<Person> otherPersons, long[] otherOrderKeys) {
+            if (persons.size() != otherPersons.size() || !Arrays.equals(orderKeys, otherOrderKeys)) {
+                return false;
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                if (persons.get(i) != otherPersons.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
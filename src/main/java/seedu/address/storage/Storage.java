@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.CommandHistory;
@@ -39,5 +40,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveCommandHistory(CommandHistory history) throws IOException;
 
+    /**
+     * Sets the handler to be given the exception of every save made in the background that fails.
+     * The handler is called on a background thread.
+     */
+    void setWriteFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Blocks until every save made in the background before this call has completed or failed.
+     */
+    void flush();
+
 
 }
@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -21,6 +28,11 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private CommandHistoryStorage commandHistoryStorage;
+    private Optional<WriteBehindService> writeBehind;
+    // Changes to the address book waiting to be saved in the background, and the address book they lead to,
+    // which is null if there are none
+    private ChangeSet.Builder unsavedChanges = new ChangeSet.Builder();
+    private ReadOnlyAddressBook unsavedAddressBook;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
@@ -32,6 +44,35 @@ public class StorageManager implements Storage {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.commandHistoryStorage = commandHistoryStorage;
+        this.writeBehind = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage},
+     * {@code UserPrefStorage} and {@code CommandHistoryStorage}, that saves the address book and command history
+     * in the background using {@code writeBehind}. Saving then only takes a snapshot of the data, and failures
+     * are reported to the handler set with {@link #setWriteFailureHandler} instead of being thrown.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage,
+                          UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage,
+                          WriteBehindService writeBehind) {
+        this(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        requireNonNull(writeBehind);
+        this.writeBehind = Optional.of(writeBehind);
+    }
+
+    // ================ Background writes ==============================
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        writeBehind.ifPresent(service -> service.setFailureHandler(handler));
+    }
+
+    @Override
+    public void flush() {
+        writeBehind.ifPresent(WriteBehindService::flush);
     }
 
     // ================ UserPrefs methods ==============================
@@ -67,6 +108,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        flush();
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -78,7 +120,70 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (writeBehind.isEmpty()) {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        writeBehind.get().submit("addressbook:" + filePath, () ->
+                addressBookStorage.saveAddressBook(snapshot, filePath));
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, ChangeSet changes) throws IOException {
+        requireNonNull(changes);
+        Path filePath = getAddressBookFilePath();
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: " + filePath);
+        if (writeBehind.isEmpty()) {
+            addressBookStorage.saveAddressBookChanges(addressBook, changes);
+            return;
+        }
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        synchronized (this) {
+            // Changes not saved yet are saved together with these, as the pending write is replaced
+            unsavedChanges.include(changes);
+            unsavedAddressBook = snapshot;
+        }
+        writeBehind.get().submit("addressbook-changes:" + filePath, this::saveUnsavedChanges);
+    }
+
+    @Override
+    public void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to compact data file: " + getAddressBookFilePath());
+        if (writeBehind.isEmpty()) {
+            addressBookStorage.compactAddressBook(addressBook);
+            return;
+        }
+        ReadOnlyAddressBook snapshot = snapshotOf(addressBook);
+        writeBehind.get().submit("addressbook-compaction:" + getAddressBookFilePath(), () ->
+                addressBookStorage.compactAddressBook(snapshot));
+    }
+
+    private void saveUnsavedChanges() throws IOException {
+        ChangeSet changes;
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            // An earlier write may already have saved the changes submitted with this one
+            if (unsavedAddressBook == null) {
+                return;
+            }
+            changes = unsavedChanges.build();
+            addressBook = unsavedAddressBook;
+            unsavedChanges = new ChangeSet.Builder();
+            unsavedAddressBook = null;
+        }
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to it.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // Persons are immutable, so copying the list is enough to keep the data being written from changing
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
     }
 
     // ================ CommandHistory methods ==============================
@@ -90,13 +195,19 @@ public class StorageManager implements Storage {
     @Override
     public Optional<CommandHistory> readCommandHistory() throws IOException {
         logger.fine("Attempting to read command history from: " + getCommandHistoryFilePath());
+        flush();
         return commandHistoryStorage.readCommandHistory();
     }
 
     @Override
     public void saveCommandHistory(CommandHistory history) throws IOException {
         logger.fine("Attempting to save command history to: " + getCommandHistoryFilePath());
-        commandHistoryStorage.saveCommandHistory(history);
+        if (writeBehind.isEmpty()) {
+            commandHistoryStorage.saveCommandHistory(history);
+            return;
+        }
+        CommandHistory snapshot = new CommandHistory(history.getHistory());
+        writeBehind.get().submit("history", () -> commandHistoryStorage.saveCommandHistory(snapshot));
     }
 
 }
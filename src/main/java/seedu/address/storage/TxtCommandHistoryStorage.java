@@ -1,22 +1,42 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 
 /**
  * Stores command history in a text file, one command per line.
+ * Compressed files are read as well as plain ones, whichever way this storage saves them.
  */
 public class TxtCommandHistoryStorage implements CommandHistoryStorage {
 
     private final Path filePath;
+    private final boolean isCompressed;
 
     public TxtCommandHistoryStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which saves the file compressed if {@code isCompressed}
+     * is true.
+     */
+    public TxtCommandHistoryStorage(Path filePath, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompressed = isCompressed;
     }
 
     @Override
@@ -30,8 +50,15 @@ public class TxtCommandHistoryStorage implements CommandHistoryStorage {
             return Optional.empty();
         }
 
-        // Read all lines from the file
-        List<String> lines = Files.readAllLines(filePath);
+        // Read all lines from the file, decompressing them as they are read if needed
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(FileUtil.newInputStream(filePath), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
         CommandHistory commandHistory = new CommandHistory(lines);
 
         return Optional.of(commandHistory);
@@ -40,11 +67,17 @@ public class TxtCommandHistoryStorage implements CommandHistoryStorage {
 
     @Override
     public void saveCommandHistory(CommandHistory history) throws IOException {
-        // Ensure the parent directory exists
-        Files.createDirectories(filePath.getParent());
+        requireNonNull(history);
 
-        // Write the commands to the file, one per line
-        Files.write(filePath, history.getHistory());
+        // Write the commands to the file, one per line, replacing the file atomically
+        FileUtil.writeToFile(filePath, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            for (String command : history.getHistory()) {
+                writer.write(command);
+                writer.write(System.lineSeparator());
+            }
+            writer.flush();
+        }, isCompressed);
     }
 
 }
@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@link AddressBookStorage} that saves the changes made to the address book by appending them to a write-ahead
+ * log next to the data file, rather than by rewriting the data file.
+ * <p>
+ * The data file holds a snapshot written by another {@code AddressBookStorage}, and each line of the log holds the
+ * {@link ChangeSet} of one save as compact JSON. Reading the address book replays the log onto the snapshot.
+ * The log is compacted into a new snapshot once it would grow past its size limit, once its oldest change is older
+ * than its age limit, when the changes would take nearly as much space as a snapshot, and on
+ * {@link #compactAddressBook}.
+ * <p>
+ * Replaying a change sets each person it touches to how the change left that person, so replaying a log onto a
+ * snapshot that already has some of its changes, as left by a crash during compaction, gives the same result.
+ * Each added person is logged with its position in the person list, and is put back at that position.
+ * Replaying stops at the first change that cannot be read or applied, keeping the changes before it, and the next
+ * save then writes a snapshot in place of the log.
+ */
+public class WriteAheadLogAddressBookStorage implements AddressBookStorage {
+
+    public static final Duration DEFAULT_MAX_LOG_AGE = Duration.ofMinutes(10);
+
+    public static final String MESSAGE_CONFLICTING_CHANGE = "Change in the log of %s conflicts with its data.";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteAheadLogAddressBookStorage.class);
+
+    private static final String LOG_FILE_SUFFIX = ".wal";
+
+    private final AddressBookStorage snapshotStorage;
+    private final long maxLogBytes;
+    private final Duration maxLogAge;
+
+    // State of the log of the data file; until the data file has been read or saved, it is not known to match
+    private boolean needsSnapshot = true;
+    private long logBytes;
+    private Optional<Instant> oldestChangeTime = Optional.empty();
+
+    /**
+     * Creates a storage that keeps snapshots in {@code snapshotStorage}, and compacts its log once the log would
+     * grow past {@code maxLogBytes}, or once it holds changes older than {@link #DEFAULT_MAX_LOG_AGE}.
+     * A {@code maxLogBytes} of 0 disables the log, so that every save writes a snapshot.
+     */
+    public WriteAheadLogAddressBookStorage(AddressBookStorage snapshotStorage, long maxLogBytes) {
+        this(snapshotStorage, maxLogBytes, DEFAULT_MAX_LOG_AGE);
+    }
+
+    /**
+     * Creates a storage that keeps snapshots in {@code snapshotStorage}, and compacts its log once the log would
+     * grow past {@code maxLogBytes}, or once it holds changes older than {@code maxLogAge}.
+     */
+    public WriteAheadLogAddressBookStorage(AddressBookStorage snapshotStorage, long maxLogBytes,
+            Duration maxLogAge) {
+        requireAllNonNull(snapshotStorage, maxLogAge);
+        this.snapshotStorage = snapshotStorage;
+        this.maxLogBytes = maxLogBytes;
+        this.maxLogAge = maxLogAge;
+    }
+
+    /**
+     * Returns the path of the write-ahead log of the data file at {@code filePath}.
+     */
+    public static Path getLogFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path logFile = getLogFilePath(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        try {
+            if (snapshot.isEmpty()) {
+                // A log without its snapshot has nothing to be replayed onto
+                Files.deleteIfExists(logFile);
+                return snapshot;
+            }
+            if (!Files.exists(logFile)) {
+                onLogReset(filePath);
+                return snapshot;
+            }
+
+            AddressBook addressBook = new AddressBook(snapshot.get());
+            boolean isFullyReplayed = replay(addressBook, filePath);
+            if (filePath.equals(getAddressBookFilePath())) {
+                // Changes appended after a change that could not be replayed would never be replayed either
+                needsSnapshot = !isFullyReplayed;
+                logBytes = Files.size(logFile);
+                oldestChangeTime = Optional.of(Instant.now());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.info("Write-ahead log " + logFile + " could not be replayed: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} to {@code filePath}, and empties the log of that file.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        // If the log is left behind, replaying it onto the new snapshot still gives the same address book
+        Files.deleteIfExists(getLogFilePath(filePath));
+        onLogReset(filePath);
+    }
+
+    @Override
+    public synchronized void saveAddressBookChanges(ReadOnlyAddressBook addressBook, ChangeSet changes)
+            throws IOException {
+        requireAllNonNull(addressBook, changes);
+        if (needsSnapshot) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        // A change to most persons is logged as nearly all their data, so a snapshot is not much larger
+        if (maxLogBytes <= 0 || changes.size() * 2 >= addressBook.getPersonList().size() || isLogDue()) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        JsonAdaptedChangeSet adaptedChanges = new JsonAdaptedChangeSet(changes,
+                getPositions(addressBook, changes.getAdded()));
+        byte[] record = (JsonUtil.toCompactJsonString(adaptedChanges) + "\n").getBytes(StandardCharsets.UTF_8);
+        if (logBytes + record.length > maxLogBytes) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        append(record);
+    }
+
+    /**
+     * Compacts the log into a new snapshot of {@code addressBook}, if the log holds any changes.
+     */
+    @Override
+    public synchronized void compactAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (needsSnapshot || logBytes > 0) {
+            saveAddressBook(addressBook);
+        }
+    }
+
+    private boolean isLogDue() {
+        return oldestChangeTime.isPresent() && !Instant.now().isBefore(oldestChangeTime.get().plus(maxLogAge));
+    }
+
+    private void append(byte[] record) throws IOException {
+        Path logFile = getLogFilePath(getAddressBookFilePath());
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // The log may now end in part of this record, so the next save starts afresh from a snapshot
+            needsSnapshot = true;
+            throw e;
+        }
+        logBytes += record.length;
+        if (oldestChangeTime.isEmpty()) {
+            oldestChangeTime = Optional.of(Instant.now());
+        }
+    }
+
+    private void onLogReset(Path filePath) {
+        if (filePath.equals(getAddressBookFilePath())) {
+            needsSnapshot = false;
+            logBytes = 0;
+            oldestChangeTime = Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the positions of {@code persons} in the person list of {@code addressBook}, or -1 for a person that is
+     * not in it. The persons are matched by reference, as in a {@link ChangeSet}.
+     */
+    private static List<Integer> getPositions(ReadOnlyAddressBook addressBook, List<Person> persons) {
+        if (persons.isEmpty()) {
+            return List.of();
+        }
+        Map<Person, Integer> positions = new IdentityHashMap<>();
+        persons.forEach(person -> positions.put(person, -1));
+        // The person list has no lookup by reference, so it is searched once for all the persons together
+        List<Person> personList = addressBook.getPersonList();
+        int found = 0;
+        for (int i = 0; i < personList.size() && found < persons.size(); i++) {
+            if (positions.replace(personList.get(i), i) != null) {
+                found++;
+            }
+        }
+        return persons.stream().map(positions::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Applies the changes in the log of the data file at {@code filePath} to {@code addressBook}, and returns true if
+     * every change was applied. A last record left incomplete by a crash is removed from the log. Replaying stops
+     * at the first change that cannot be read or applied, which is left in the log; the part of that change applied
+     * before the problem was found is kept.
+     */
+    private static boolean replay(AddressBook addressBook, Path filePath) throws IOException {
+        Path logFile = getLogFilePath(filePath);
+        byte[] content = Files.readAllBytes(logFile);
+        int changeCount = 0;
+        int start = 0;
+        for (int end = 0; end < content.length; end++) {
+            if (content[end] != '\n') {
+                continue;
+            }
+            String line = new String(content, start, end - start, StandardCharsets.UTF_8).trim();
+            start = end + 1;
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                JsonAdaptedChangeSet adaptedChanges = JsonUtil.fromJsonString(line, JsonAdaptedChangeSet.class);
+                apply(addressBook, adaptedChanges.toModelType(), adaptedChanges.getAddedPositions(), filePath);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Stopped replaying " + logFile + " after " + changeCount
+                        + " change(s), as the next change could not be replayed: " + e.getMessage());
+                return false;
+            }
+            changeCount++;
+        }
+
+        if (start < content.length) {
+            logger.warning("Discarding an incomplete change at the end of " + logFile);
+            try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                channel.truncate(start);
+            }
+        }
+        logger.info("Replayed " + changeCount + " change(s) from " + logFile);
+        return true;
+    }
+
+    /**
+     * Applies {@code changes} to {@code addressBook}, putting each added person at its position in
+     * {@code addedPositions}, or at the end of the list if its position was not recorded.
+     */
+    private static void apply(AddressBook addressBook, ChangeSet changes, List<Integer> addedPositions,
+            Path filePath) throws IllegalValueException {
+        List<Person> added = changes.getAdded();
+        // Inserting in order of position puts every person at its recorded position, as those are final positions
+        List<Integer> addOrder = IntStream.range(0, added.size()).boxed()
+                .sorted(Comparator.comparing(i -> addedPositions.isEmpty() ? -1 : addedPositions.get(i)))
+                .collect(Collectors.toList());
+        try {
+            for (Person person : changes.getRemoved()) {
+                findSamePerson(addressBook, person).ifPresent(addressBook::removePerson);
+            }
+            for (ChangeSet.Replacement replacement : changes.getReplaced()) {
+                Optional<Person> current = findSamePerson(addressBook, replacement.getTarget())
+                        .or(() -> findSamePerson(addressBook, replacement.getEdited()));
+                put(addressBook, current, replacement.getEdited(), -1);
+            }
+            for (int i : addOrder) {
+                Person person = added.get(i);
+                int position = addedPositions.isEmpty() ? -1 : addedPositions.get(i);
+                put(addressBook, findSamePerson(addressBook, person), person, position);
+            }
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_CHANGE, filePath));
+        }
+    }
+
+    /**
+     * Sets the person {@code current}, if there is one, to {@code person}, or else adds {@code person} at
+     * {@code position}, or at the end of the list if {@code position} is -1 or past the end.
+     */
+    private static void put(AddressBook addressBook, Optional<Person> current, Person person, int position) {
+        if (current.isPresent()) {
+            addressBook.setPerson(current.get(), person);
+            return;
+        }
+        int size = addressBook.getPersonList().size();
+        addressBook.addPerson(position < 0 ? size : Math.min(position, size), person);
+    }
+
+    /**
+     * Returns the person in {@code addressBook} with the same identity as {@code person}, if there is one.
+     */
+    private static Optional<Person> findSamePerson(AddressBook addressBook, Person person) {
+        if (!addressBook.hasPerson(person)) {
+            return Optional.empty();
+        }
+        int index = addressBook.indexOf(person);
+        if (index != -1) {
+            return Optional.of(addressBook.getPersonList().get(index));
+        }
+        // The person differs from the one in the address book only when replaying a change the snapshot already has
+        return addressBook.getPersonList().stream().filter(person::isSamePerson).findFirst();
+    }
+
+}
@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Performs writes to storage on a background thread, so that callers do not wait for serialization or disk I/O.
+ * <p>
+ * Each write is submitted under a key naming what it writes, such as a file. A write replaces any write under the
+ * same key that has not started yet, so a burst of writes to the same file results in only the last one being made.
+ * Writes are made in the order they were submitted, with a write that replaces another taking the place of the latest.
+ * Writes that fail are reported to the failure handler on the background thread.
+ * <p>
+ * Writing starts only once a commit window has passed since the first write submitted after the service last
+ * became idle. Writes submitted within that window are made together, with each file written and forced to the
+ * disk once, so that a burst of saves shares one sync instead of paying for one each.
+ */
+public class WriteBehindService {
+
+    public static final Duration DEFAULT_COMMIT_WINDOW = Duration.ofMillis(20);
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindService.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-behind");
+        // Pending writes are flushed explicitly on exit, so the thread must not keep the application alive
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Duration commitWindow;
+
+    // Writes that have not started yet, by key, in the order they were submitted
+    private final Map<String, Write> pending = new LinkedHashMap<>();
+    // Whether a drain of the pending writes is scheduled or running
+    private boolean isDraining;
+    private volatile Consumer<IOException> failureHandler = ioe -> {};
+
+    /**
+     * Creates a service that groups the writes submitted within {@link #DEFAULT_COMMIT_WINDOW}.
+     */
+    public WriteBehindService() {
+        this(DEFAULT_COMMIT_WINDOW);
+    }
+
+    /**
+     * Creates a service that groups the writes submitted within {@code commitWindow}.
+     */
+    public WriteBehindService(Duration commitWindow) {
+        requireNonNull(commitWindow);
+        this.commitWindow = commitWindow;
+    }
+
+    /**
+     * Schedules {@code write} to be made in the background, in place of any write under {@code key} that has not
+     * started yet. {@code write} must only use data that will not be modified later, such as a snapshot.
+     */
+    public synchronized void submit(String key, Write write) {
+        requireAllNonNull(key, write);
+        // Removing the replaced write first puts this one after every write submitted before it
+        pending.remove(key);
+        pending.put(key, write);
+        if (!isDraining) {
+            isDraining = true;
+            executor.schedule(this::drain, commitWindow.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sets the handler to be given the exception of every write that fails, on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Blocks until every write submitted before this call has been made or has failed.
+     */
+    public void flush() {
+        try {
+            // Tasks run one at a time, so this completes only after any write in progress, and it makes the
+            // pending writes without waiting for the rest of the commit window
+            executor.submit(this::drain).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending writes to complete");
+        } catch (ExecutionException e) {
+            throw new AssertionError("Failed writes are reported to the failure handler", e);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<Write> writes;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    isDraining = false;
+                    return;
+                }
+                writes = new ArrayList<>(pending.values());
+                pending.clear();
+            }
+            writes.forEach(this::make);
+        }
+    }
+
+    private void make(Write write) {
+        try {
+            write.run();
+        } catch (IOException ioe) {
+            logger.warning("Background write failed: " + ioe.getMessage());
+            failureHandler.accept(ioe);
+        } catch (RuntimeException re) {
+            logger.severe("Background write failed unexpectedly: " + re);
+            failureHandler.accept(new IOException(re.getMessage(), re));
+        }
+    }
+
+    /**
+     * A write to storage.
+     */
+    @FunctionalInterface
+    public interface Write {
+        void run() throws IOException;
+    }
+
+}
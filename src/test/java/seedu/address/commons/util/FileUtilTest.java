@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,51 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutLeftovers() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old contents");
+
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_missingParentDirs_created() throws Exception {
+        Path file = testFolder.resolve("a").resolve("b").resolve("data.txt");
+
+        FileUtil.writeToFile(file, "contents");
+
+        assertEquals("contents", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFile_compressed_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        String contents = "line of text\n".repeat(1000);
+
+        FileUtil.writeToFile(file, out -> out.write(contents.getBytes(StandardCharsets.UTF_8)), true);
+
+        assertTrue(FileUtil.isCompressed(file));
+        assertTrue(Files.size(file) < contents.length() / 10);
+        assertEquals(contents, FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void isCompressed_plainOrMissingFile_returnsFalse() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        assertFalse(FileUtil.isCompressed(file));
+
+        FileUtil.writeToFile(file, "");
+        assertFalse(FileUtil.isCompressed(file));
+        assertEquals("", FileUtil.readFromFile(file));
+
+        FileUtil.writeToFile(file, "contents");
+        assertFalse(FileUtil.isCompressed(file));
+    }
+
 }
@@ -1,12 +1,19 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +46,71 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveThenReadJsonArrayFile_elementsInOrder() throws Exception {
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "names", List.of("Alice", "Bob"));
+
+        List<String> names = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "names", String.class, names::add));
+        assertEquals(List.of("Alice", "Bob"), names);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"other\" : { \"names\" : [ 1 ] }, \"names\" : [ \"Alice\" ] }");
+
+        List<String> names = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "names", String.class, names::add);
+        assertEquals(List.of("Alice"), names);
+    }
+
+    @Test
+    public void readJsonArrayFile_truncatedFile_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"names\" : [ \"Alice\", ");
+
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "names", String.class, name -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "names",
+                String.class, name -> {}));
+    }
+
+    @Test
+    public void indexJsonArrayFile_objectElements_rangesOfElements() throws Exception {
+        String content = "{ \"other\" : [ { } ], \"names\" : [ { \"name\" : \"Alice\" }, {\"name\":\"Bob\"} ] }";
+        FileUtil.writeToFile(SERIALIZATION_FILE, content);
+
+        List<String> elements = new ArrayList<>();
+        JsonUtil.indexJsonArrayFile(SERIALIZATION_FILE, "names", (startOffset, endOffset) ->
+                elements.add(content.substring((int) startOffset, (int) endOffset)));
+        assertEquals(List.of("{ \"name\" : \"Alice\" }", "{\"name\":\"Bob\"}"), elements);
+    }
+
+    @Test
+    public void indexJsonArrayFile_elementNotObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"names\" : [ \"Alice\" ] }");
+
+        assertThrows(DataLoadingException.class, () ->
+                JsonUtil.indexJsonArrayFile(SERIALIZATION_FILE, "names", (startOffset, endOffset) -> {}));
+    }
+
+    @Test
+    public void readFirstFieldName_restOfFileInvalid_readsOnlyFirstField() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"names\" : [ \"Alice\", ");
+
+        assertEquals(Optional.of("names"), JsonUtil.readFirstFieldName(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void readFirstFieldName_notJsonObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"Alice\" ]");
+
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readFirstFieldName(SERIALIZATION_FILE));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashSetTest {
+
+    @Test
+    public void plus_newElement_leavesOriginalUnchanged() {
+        PersistentHashSet<String> original = PersistentHashSet.copyOf(List.of("a", "b"));
+        PersistentHashSet<String> updated = original.plus("c");
+
+        assertEquals(Set.of("a", "b"), original);
+        assertEquals(Set.of("a", "b", "c"), updated);
+        assertEquals(3, updated.size());
+    }
+
+    @Test
+    public void plus_existingElement_returnsSameSetAndKeepsExistingElement() {
+        String existing = new String("a");
+        PersistentHashSet<String> set = PersistentHashSet.<String>empty().plus(existing);
+
+        assertSame(set, set.plus(new String("a")));
+        assertSame(existing, set.iterator().next());
+    }
+
+    @Test
+    public void minus_elements_removesOnlyThoseElements() {
+        PersistentHashSet<String> original = PersistentHashSet.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(Set.of("a", "c"), original.minus("b"));
+        assertEquals(Set.of("b"), original.minusAll(List.of("a", "c")));
+        assertSame(original, original.minus("d"));
+        assertEquals(PersistentHashSet.empty(), original.minusAll(original));
+    }
+
+    @Test
+    public void copyOf_persistentSet_returnsSameSet() {
+        PersistentHashSet<String> set = PersistentHashSet.copyOf(List.of("a"));
+        assertSame(set, PersistentHashSet.copyOf(set));
+    }
+
+    @Test
+    public void plusAndMinus_collidingHashes_behaveLikeHashSet() {
+        // "Aa" and "BB" have the same hash code, so they share a trie path down to a collision node
+        PersistentHashSet<String> set = PersistentHashSet.copyOf(List.of("Aa", "BB", "C"));
+
+        assertTrue(set.contains("Aa"));
+        assertTrue(set.contains("BB"));
+        assertEquals(Set.of("BB", "C"), set.minus("Aa"));
+        assertEquals(Set.of("Aa", "C"), set.minus("BB"));
+        assertEquals(new HashSet<>(List.of("Aa", "BB", "C")).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void plusAndMinus_manyElements_matchHashSet() {
+        Set<Integer> expected = new HashSet<>();
+        PersistentHashSet<Integer> actual = PersistentHashSet.empty();
+        for (int i = 0; i < 2000; i++) {
+            int value = i * 7919;
+            expected.add(value);
+            actual = actual.plus(value);
+        }
+        for (int i = 0; i < 2000; i += 3) {
+            int value = i * 7919;
+            expected.remove(value);
+            actual = actual.minus(value);
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected, new HashSet<>(actual));
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        PersistentHashSet<String> set = PersistentHashSet.copyOf(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void plus_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentHashSet.empty().plus(null));
+        assertFalse(PersistentHashSet.empty().contains(null));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String first = new String("physics");
+        String second = new String("physics");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_returnsOwnInstances() {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String physics = "physics";
+        String chemistry = "chemistry";
+
+        assertSame(physics, interner.intern(physics));
+        assertSame(chemistry, interner.intern(chemistry));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_customEquivalence_usesEquivalenceInsteadOfEquals() {
+        WeakInterner<String> interner = new WeakInterner<>(value -> value.toLowerCase().hashCode(),
+                String::equalsIgnoreCase);
+        String lowerCase = new String("physics");
+
+        assertSame(lowerCase, interner.intern(lowerCase));
+        assertSame(lowerCase, interner.intern(new String("PHYSICS")));
+        assertNotSame(lowerCase, interner.intern(new String("chemistry")));
+    }
+
+    @Test
+    public void intern_collidingHashes_keepsValuesApart() {
+        WeakInterner<String> interner = new WeakInterner<>(value -> 0, String::equals);
+        String physics = "physics";
+        String chemistry = "chemistry";
+
+        assertSame(physics, interner.intern(physics));
+        assertSame(chemistry, interner.intern(chemistry));
+        assertEquals(2, interner.size());
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.StudentInClassGroupPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FilterByClassGroupCommand}.
@@ -131,4 +133,18 @@ public class FilterByClassGroupCommandTest {
                 + "{" + PREDICATE_FIELD_NAME + "=" + predicate + "}";
         assertEquals(expected, filterCommand.toString());
     }
+
+    @Test
+    public void execute_memberRestoredByUndo_memberShown() {
+        model.commit();
+        Person bobWithoutMath = new PersonBuilder(BOB).withClassGroups(VALID_CLASSGROUP_PHYSICS).build();
+        model.setPerson(BOB, bobWithoutMath);
+        model.commit();
+        new FilterByClassGroupCommand(new StudentInClassGroupPredicate(VALID_CLASSGROUP_MATH)).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        model.undo();
+
+        assertEquals(Collections.singletonList(BOB), model.getFilteredPersonList());
+    }
 }
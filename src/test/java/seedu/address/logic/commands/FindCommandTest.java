@@ -10,15 +10,21 @@ import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +80,34 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_nameRestoredByUndo_personShown() {
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Bauer").build();
+        model.setPerson(CARL, renamedCarl);
+        model.commit();
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        model.undo();
+
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_nameRestoredByUndo_personShownWhenListNotified() {
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Bauer").build();
+        model.setPerson(CARL, renamedCarl);
+        model.commit();
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+        List<List<Person>> shownWhenNotified = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                shownWhenNotified.add(List.copyOf(model.getFilteredPersonList())));
+
+        model.undo();
+
+        assertEquals(List.of(List.of(CARL)), shownWhenNotified);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
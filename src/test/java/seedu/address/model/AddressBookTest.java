@@ -9,14 +9,17 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -31,6 +34,20 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void getModificationCount_changesOnlyWhenPersonsChange() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addPerson(ALICE);
+        long countAfterAdd = addressBook.getModificationCount();
+        assertTrue(countAfterAdd > initialCount);
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > countAfterAdd);
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -56,6 +73,19 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesLookups() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertTrue(addressBook.hasName(ALICE.getName()));
+        assertTrue(addressBook.hasPhone(ALICE.getPhone()));
+
+        // later changes to the source do not leak into the copy
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -82,6 +112,47 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsInClassGroup_afterSetPerson_reflectsEditedPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withClassGroups(VALID_CLASSGROUP_PHYSICS).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS.toUpperCase()));
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS).isEmpty());
+    }
+
+    @Test
+    public void getPersonList_listenerNotified_lookupsAlreadyUpdated() {
+        Person physicsAlice = new PersonBuilder(ALICE).withClassGroups(VALID_CLASSGROUP_PHYSICS).build();
+        List<Set<Person>> membersWhenNotified = new ArrayList<>();
+        List<Long> countsWhenNotified = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            membersWhenNotified.add(Set.copyOf(addressBook.getPersonsInClassGroup(VALID_CLASSGROUP_PHYSICS)));
+            countsWhenNotified.add(addressBook.getModificationCount());
+        });
+
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, physicsAlice);
+        addressBook.removePerson(physicsAlice);
+        addressBook.setPersons(List.of(physicsAlice));
+
+        assertEquals(List.of(Set.of(), Set.of(physicsAlice), Set.of(), Set.of(physicsAlice)), membersWhenNotified);
+        long lastNotifiedCount = countsWhenNotified.get(countsWhenNotified.size() - 1);
+        assertEquals(addressBook.getModificationCount(), lastNotifiedCount);
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_lookupsUnchanged() {
+        addressBook.addPerson(ALICE);
+        long count = addressBook.getModificationCount();
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(0, ALICE));
+        assertEquals(count, addressBook.getModificationCount());
+        assertEquals(1, addressBook.getStudentColumns().getStudentCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ChangeSet.Replacement;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeSetTest {
+
+    private final Person editedAlice = new PersonBuilder(ALICE).withLevel("5").build();
+
+    @Test
+    public void build_noChanges_isEmpty() {
+        ChangeSet.Builder builder = new ChangeSet.Builder();
+        assertTrue(builder.isEmpty());
+        assertEquals(ChangeSet.EMPTY, builder.build());
+    }
+
+    @Test
+    public void build_separateChanges_listsEachChange() {
+        ChangeSet changes = new ChangeSet.Builder()
+                .add(CARL)
+                .remove(BENSON)
+                .replace(ALICE, editedAlice)
+                .build();
+
+        assertEquals(List.of(CARL), changes.getAdded());
+        assertEquals(List.of(BENSON), changes.getRemoved());
+        assertEquals(List.of(new Replacement(ALICE, editedAlice)), changes.getReplaced());
+        assertEquals(3, changes.size());
+        assertFalse(changes.isEmpty());
+    }
+
+    @Test
+    public void build_addThenRemove_cancelsOut() {
+        assertTrue(new ChangeSet.Builder().add(ALICE).remove(ALICE).isEmpty());
+    }
+
+    @Test
+    public void build_removeThenAddSameInstance_cancelsOut() {
+        assertTrue(new ChangeSet.Builder().remove(ALICE).add(ALICE).isEmpty());
+    }
+
+    @Test
+    public void build_replaceThenReplaceBack_cancelsOut() {
+        assertTrue(new ChangeSet.Builder().replace(ALICE, editedAlice).replace(editedAlice, ALICE).isEmpty());
+    }
+
+    @Test
+    public void include_laterChangeSet_combinedIntoNetChanges() {
+        ChangeSet first = new ChangeSet.Builder().add(CARL).replace(ALICE, editedAlice).build();
+        Person editedCarl = new PersonBuilder(CARL).withLevel("5").build();
+        ChangeSet second = new ChangeSet.Builder().replace(CARL, editedCarl).remove(BENSON).build();
+
+        ChangeSet combined = new ChangeSet.Builder().include(first).include(second).build();
+
+        assertEquals(List.of(editedCarl), combined.getAdded());
+        assertEquals(List.of(BENSON), combined.getRemoved());
+        assertEquals(List.of(new Replacement(ALICE, editedAlice)), combined.getReplaced());
+    }
+
+    @Test
+    public void build_replaceTwice_replacesOriginalWithLatest() {
+        Person twiceEditedAlice = new PersonBuilder(editedAlice).withLevel("4").build();
+        ChangeSet changes = new ChangeSet.Builder()
+                .replace(ALICE, editedAlice)
+                .replace(editedAlice, twiceEditedAlice)
+                .build();
+
+        assertEquals(List.of(new Replacement(ALICE, twiceEditedAlice)), changes.getReplaced());
+    }
+
+    @Test
+    public void build_replaceThenRemove_removesOriginal() {
+        ChangeSet changes = new ChangeSet.Builder().replace(ALICE, editedAlice).remove(editedAlice).build();
+
+        assertEquals(List.of(ALICE), changes.getRemoved());
+        assertTrue(changes.getReplaced().isEmpty());
+    }
+
+    @Test
+    public void build_addThenReplace_addsLatest() {
+        ChangeSet changes = new ChangeSet.Builder().add(ALICE).replace(ALICE, editedAlice).build();
+
+        assertEquals(List.of(editedAlice), changes.getAdded());
+        assertTrue(changes.getReplaced().isEmpty());
+    }
+
+    @Test
+    public void build_reset_onlyListsPersonsNotInBoth() {
+        ChangeSet changes = new ChangeSet.Builder()
+                .reset(List.of(ALICE, BENSON), List.of(BENSON, CARL))
+                .build();
+
+        assertEquals(List.of(CARL), changes.getAdded());
+        assertEquals(List.of(ALICE), changes.getRemoved());
+    }
+
+    @Test
+    public void build_equalButDistinctPerson_trackedByIdentity() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        ChangeSet changes = new ChangeSet.Builder().replace(ALICE, aliceCopy).build();
+
+        assertEquals(1, changes.getReplaced().size());
+    }
+
+    @Test
+    public void equals() {
+        ChangeSet changes = new ChangeSet.Builder().add(ALICE).build();
+
+        assertTrue(changes.equals(changes));
+        assertTrue(changes.equals(new ChangeSet.Builder().add(ALICE).build()));
+        assertFalse(changes.equals(null));
+        assertFalse(changes.equals(ChangeSet.EMPTY));
+    }
+}
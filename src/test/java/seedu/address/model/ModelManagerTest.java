@@ -6,17 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -129,4 +138,159 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void getUndoHistoryFootprint_afterCommits_countsVersions() {
+        assertEquals(0, modelManager.getUndoableVersionCount());
+        assertEquals(0, modelManager.getUndoHistoryEstimatedBytes());
+
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.commit();
+
+        assertEquals(2, modelManager.getUndoableVersionCount());
+        assertTrue(modelManager.getUndoHistoryEstimatedBytes() > 0);
+    }
+
+    @Test
+    public void publishChangeSet_afterCommandChanges_returnsNetChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withLevel("5").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+
+        ChangeSet changes = modelManager.publishChangeSet();
+        assertEquals(List.of(editedAlice), changes.getAdded());
+        assertTrue(changes.getRemoved().isEmpty());
+        assertTrue(changes.getReplaced().isEmpty());
+
+        // published changes are not published again
+        assertTrue(modelManager.publishChangeSet().isEmpty());
+    }
+
+    @Test
+    public void publishChangeSet_afterUndo_returnsRevertedChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.publishChangeSet();
+
+        modelManager.undo();
+
+        assertEquals(List.of(ALICE), modelManager.publishChangeSet().getRemoved());
+    }
+
+    @Test
+    public void publishChangeSet_afterRedo_returnsReappliedChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        Person editedAlice = new PersonBuilder(ALICE).withLevel("5").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.commit();
+        modelManager.undo();
+        modelManager.publishChangeSet();
+
+        modelManager.redo();
+
+        assertEquals(List.of(new ChangeSet.Replacement(ALICE, editedAlice)),
+                modelManager.publishChangeSet().getReplaced());
+    }
+
+    @Test
+    public void publishChangeSet_undoWithUncommittedChanges_includesDiscardedChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commit();
+        modelManager.addPerson(BENSON);
+        modelManager.publishChangeSet();
+
+        modelManager.undo();
+
+        ChangeSet changes = modelManager.publishChangeSet();
+        assertEquals(List.of(BENSON, ALICE), changes.getRemoved());
+        assertTrue(changes.getAdded().isEmpty());
+    }
+
+    @Test
+    public void publishChangeSet_withListener_notifiesListener() {
+        List<ChangeSet> published = new ArrayList<>();
+        modelManager.addChangeSetListener(published::add);
+        modelManager.addPerson(ALICE);
+
+        ChangeSet changes = modelManager.publishChangeSet();
+
+        assertEquals(List.of(changes), published);
+    }
+
+    @Test
+    public void getPersonsWithNameMatchingAny_deferredAddressBook_notLoaded() {
+        StubDeferredAddressBook deferred = new StubDeferredAddressBook(getTypicalAddressBook());
+        ModelManager modelManager = new ModelManager(deferred, new UserPrefs());
+
+        assertEquals(Set.of(BENSON, DANIEL), modelManager.getPersonsWithNameMatchingAny(List.of("meier")));
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Meier")));
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+
+        assertFalse(modelManager.isAddressBookLoaded());
+        assertEquals(0, deferred.loadCount);
+    }
+
+    @Test
+    public void addPerson_deferredAddressBook_loadsAddressBookFirst() {
+        StubDeferredAddressBook deferred = new StubDeferredAddressBook(getTypicalAddressBook());
+        ModelManager modelManager = new ModelManager(deferred, new UserPrefs());
+
+        modelManager.addPerson(AMY);
+
+        assertTrue(modelManager.isAddressBookLoaded());
+        assertEquals(1, deferred.loadCount);
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(AMY);
+        assertEquals(expected, modelManager.getAddressBook());
+        assertEquals(expected.getPersonList(), modelManager.getFilteredPersonList());
+        assertEquals(List.of(AMY), modelManager.publishChangeSet().getAdded());
+    }
+
+    @Test
+    public void loadAddressBook_loadedAddressBook_doesNothing() throws Exception {
+        StubDeferredAddressBook deferred = new StubDeferredAddressBook(getTypicalAddressBook());
+        ModelManager modelManager = new ModelManager(deferred, new UserPrefs());
+
+        modelManager.loadAddressBook();
+        modelManager.loadAddressBook();
+
+        assertEquals(1, deferred.loadCount);
+        assertTrue(deferred.isReleased);
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+        assertTrue(modelManager.publishChangeSet().isEmpty());
+    }
+
+    /**
+     * A {@code DeferredAddressBook} that counts how many times it is loaded, and records whether it was released.
+     */
+    private static class StubDeferredAddressBook implements DeferredAddressBook {
+        private final AddressBook addressBook;
+        private int loadCount;
+        private boolean isReleased;
+
+        StubDeferredAddressBook(AddressBook addressBook) {
+            this.addressBook = addressBook;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return addressBook.getPersonList();
+        }
+
+        @Override
+        public AddressBook load() {
+            loadCount++;
+            return new AddressBook(addressBook);
+        }
+
+        @Override
+        public void release() {
+            isReleased = true;
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class StudentColumnsTest {
+
+    private static final Assignment HOMEWORK = new Assignment("homework", "math");
+    private static final Person AMY = new PersonBuilder().withName("Amy").withPhone("11111111").withLevel("1")
+            .withClassGroups("math").withAssignments("math", "homework").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withPhone("22222222").withLevel("2")
+            .withClassGroups("math", "physics").build().withAssignments(Set.of(HOMEWORK.mark()));
+    private static final Person CAT = new PersonBuilder().withName("Cat").withPhone("33333333").withLevel("2")
+            .withClassGroups("physics").build();
+
+    private final StudentColumns columns = new StudentColumns();
+
+    @Test
+    public void add_persons_countsEachColumn() {
+        columns.add(AMY);
+        columns.add(BOB);
+        columns.add(CAT);
+
+        assertEquals(3, columns.getStudentCount());
+        assertEquals(1, columns.countAtLevel(1));
+        assertEquals(2, columns.countAtLevel(2));
+        assertEquals(0, columns.countAtLevel(3));
+        assertEquals(2, columns.countInClassGroup("MATH"));
+        assertEquals(1, columns.countAtLevelInClassGroup(2, "math"));
+        assertEquals(2, columns.countAtLevelInClassGroup(2, "physics"));
+        assertEquals(2, columns.countHolding(HOMEWORK));
+        assertEquals(1, columns.countCompleted(HOMEWORK));
+    }
+
+    @Test
+    public void remove_person_freesRowForReuse() {
+        columns.add(AMY);
+        columns.add(BOB);
+        columns.remove(AMY);
+
+        assertEquals(1, columns.getStudentCount());
+        assertEquals(0, columns.countAtLevel(1));
+        assertEquals(1, columns.countInClassGroup("math"));
+        assertEquals(1, columns.countHolding(HOMEWORK));
+
+        columns.add(CAT);
+        assertEquals(2, columns.countAtLevel(2));
+        assertEquals(1, columns.countInClassGroup("math"));
+        assertEquals(2, columns.countInClassGroup("physics"));
+    }
+
+    @Test
+    public void unknownValues_countZero() {
+        columns.add(AMY);
+        assertEquals(0, columns.countInClassGroup("chemistry"));
+        assertEquals(0, columns.countAtLevelInClassGroup(1, "chemistry"));
+        assertEquals(0, columns.countHolding(new Assignment("lab", "math")));
+        assertEquals(0, columns.countCompleted(new Assignment("lab", "math")));
+    }
+
+    @Test
+    public void clear_removesAllRows() {
+        columns.add(AMY);
+        columns.add(BOB);
+        columns.clear();
+
+        assertEquals(0, columns.getStudentCount());
+        assertEquals(0, columns.countAtLevel(2));
+        assertEquals(0, columns.countInClassGroup("math"));
+    }
+
+    @Test
+    public void addressBook_markAssignment_updatesCompletionColumn() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(AMY);
+        ReadOnlyStudentColumns view = addressBook.getStudentColumns();
+        assertEquals(0, view.countCompleted(HOMEWORK));
+
+        Person marked = AMY.withAssignments(Set.of(HOMEWORK.mark()));
+        addressBook.setPerson(AMY, marked);
+        assertEquals(1, view.countCompleted(HOMEWORK));
+
+        addressBook.removePerson(marked);
+        assertEquals(0, view.getStudentCount());
+    }
+}
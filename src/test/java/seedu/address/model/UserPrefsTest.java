@@ -80,6 +80,70 @@ public class UserPrefsTest {
         assertNotEquals(newHistoryPath, userPrefs.getCommandHistoryFilePath());
     }
 
+    @Test
+    public void resetData_undoHistoryLimits_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setMaxUndoVersions(5);
+        newPrefs.setMaxUndoHistoryBytes(1024);
+        newPrefs.setMaxUndoVersionsInMemory(2);
+
+        userPrefs.resetData(newPrefs);
+
+        assertEquals(5, userPrefs.getMaxUndoVersions());
+        assertEquals(1024, userPrefs.getMaxUndoHistoryBytes());
+        assertEquals(2, userPrefs.getMaxUndoVersionsInMemory());
+        assertEquals(newPrefs, userPrefs);
+    }
+
+    @Test
+    public void resetData_writeAheadLogLimit_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setMaxWriteAheadLogBytes(1024);
+
+        userPrefs.resetData(newPrefs);
+
+        assertEquals(1024, userPrefs.getMaxWriteAheadLogBytes());
+        assertEquals(newPrefs, userPrefs);
+    }
+
+    @Test
+    public void resetData_addressBookFormat_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setAddressBookFormat(AddressBookFormat.BINARY);
+
+        userPrefs.resetData(newPrefs);
+
+        assertEquals(AddressBookFormat.BINARY, userPrefs.getAddressBookFormat());
+        assertEquals(newPrefs, userPrefs);
+    }
+
+    @Test
+    public void resetData_compressDataFiles_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setCompressDataFiles(true);
+
+        userPrefs.resetData(newPrefs);
+
+        assertTrue(userPrefs.shouldCompressDataFiles());
+        assertEquals(newPrefs, userPrefs);
+    }
+
+    @Test
+    public void resetData_lazyLoadThresholdBytes_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        UserPrefs newPrefs = new UserPrefs();
+        newPrefs.setLazyLoadThresholdBytes(1024);
+
+        userPrefs.resetData(newPrefs);
+
+        assertEquals(1024, userPrefs.getLazyLoadThresholdBytes());
+        assertEquals(newPrefs, userPrefs);
+    }
+
     @Test
     public void equals_sameObject_returnsTrue() {
         UserPrefs prefs = new UserPrefs();
@@ -0,0 +1,48 @@
+package seedu.address.model.assignment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ASSIGNMENT_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_MATH;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class AssignmentIndexTest {
+
+    private static final Assignment MATH_ASSIGNMENT = new Assignment(VALID_ASSIGNMENT_MATH, VALID_CLASSGROUP_MATH);
+
+    private final AssignmentIndex assignmentIndex = new AssignmentIndex();
+
+    @Test
+    public void getUnmarked_unknownAssignment_returnsEmptySet() {
+        assertTrue(assignmentIndex.getUnmarked(MATH_ASSIGNMENT).isEmpty());
+        assertTrue(assignmentIndex.getMarked(MATH_ASSIGNMENT).isEmpty());
+    }
+
+    @Test
+    public void add_personWithAssignment_splitByMarkedStatus() {
+        Person markedAmy = AMY.withAssignments(Set.of(MATH_ASSIGNMENT.mark()));
+        assignmentIndex.add(markedAmy);
+        assignmentIndex.add(BOB);
+
+        Assignment differentCase = new Assignment(VALID_ASSIGNMENT_MATH.toUpperCase(),
+                VALID_CLASSGROUP_MATH.toUpperCase());
+        assertEquals(Set.of(markedAmy), assignmentIndex.getMarked(differentCase));
+        assertTrue(assignmentIndex.getUnmarked(differentCase).isEmpty());
+    }
+
+    @Test
+    public void remove_holder_noLongerReturned() {
+        assignmentIndex.add(AMY);
+        assertEquals(Set.of(AMY), assignmentIndex.getUnmarked(MATH_ASSIGNMENT));
+
+        assignmentIndex.remove(AMY);
+        assertTrue(assignmentIndex.getUnmarked(MATH_ASSIGNMENT).isEmpty());
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.assignment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -71,6 +73,14 @@ public class AssignmentTest {
         assertTrue(assignment1.equals(assignment2));
     }
 
+    @Test
+    public void equals_differentCase_returnsTrueWithSameHash() {
+        Assignment assignment = new Assignment("Physics", DEFAULT_CLASS_GROUP);
+        Assignment differentCase = new Assignment("pHYSICS", DEFAULT_CLASS_GROUP.toUpperCase(), true);
+        assertTrue(assignment.equals(differentCase));
+        assertEquals(assignment.hashCode(), differentCase.hashCode());
+    }
+
     @Test
     public void equals_differentName_returnsFalse() {
         Assignment assignment1 = new Assignment("Physics", DEFAULT_CLASS_GROUP);
@@ -89,4 +99,27 @@ public class AssignmentTest {
         Assignment assignment = new Assignment("Physics", DEFAULT_CLASS_GROUP);
         assertEquals("[Physics (test-class)]", assignment.toString());
     }
+
+    @Test
+    public void of_sameNamesAndStatus_returnsSameInstance() {
+        Assignment assignment = Assignment.of("Physics", DEFAULT_CLASS_GROUP, false);
+        assertSame(assignment, Assignment.of("Physics", DEFAULT_CLASS_GROUP, false));
+        assertSame(assignment.mark(), Assignment.of("Physics", DEFAULT_CLASS_GROUP, true));
+    }
+
+    @Test
+    public void of_differentCaseOrStatus_returnsDistinctInstances() {
+        Assignment assignment = Assignment.of("Physics", DEFAULT_CLASS_GROUP, false);
+
+        // equal but differently cased names are not shared, so each keeps its own display name
+        Assignment lowerCase = Assignment.of("physics", DEFAULT_CLASS_GROUP, false);
+        assertNotSame(assignment, lowerCase);
+        assertEquals("physics", lowerCase.getAssignmentName());
+
+        // marked status is not shared
+        Assignment marked = Assignment.of("Physics", DEFAULT_CLASS_GROUP, true);
+        assertNotSame(assignment, marked);
+        assertTrue(marked.isMarked());
+        assertFalse(assignment.isMarked());
+    }
 }
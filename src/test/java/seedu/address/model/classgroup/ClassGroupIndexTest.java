@@ -0,0 +1,49 @@
+package seedu.address.model.classgroup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYSICS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ClassGroupIndexTest {
+
+    private final ClassGroupIndex classGroupIndex = new ClassGroupIndex();
+
+    @Test
+    public void getMembers_unknownClassGroup_returnsEmptySet() {
+        assertTrue(classGroupIndex.getMembers(VALID_CLASSGROUP_MATH).isEmpty());
+    }
+
+    @Test
+    public void getMembers_differentCase_returnsMembers() {
+        classGroupIndex.add(AMY);
+        classGroupIndex.add(BOB);
+        assertEquals(Set.of(AMY, BOB), classGroupIndex.getMembers(VALID_CLASSGROUP_MATH.toUpperCase()));
+        assertEquals(Set.of(BOB), classGroupIndex.getMembers(VALID_CLASSGROUP_PHYSICS));
+    }
+
+    @Test
+    public void remove_member_removedFromAllClassGroups() {
+        classGroupIndex.add(AMY);
+        classGroupIndex.add(BOB);
+        classGroupIndex.remove(BOB);
+        assertEquals(Set.of(AMY), classGroupIndex.getMembers(VALID_CLASSGROUP_MATH));
+        assertTrue(classGroupIndex.getMembers(VALID_CLASSGROUP_PHYSICS).isEmpty());
+    }
+
+    @Test
+    public void getMembers_laterChanges_snapshotUnaffected() {
+        classGroupIndex.add(AMY);
+        Set<?> members = classGroupIndex.getMembers(VALID_CLASSGROUP_MATH);
+        classGroupIndex.clear();
+        assertEquals(Set.of(AMY), members);
+        assertThrows(UnsupportedOperationException.class, () -> members.clear());
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameWordIndexTest {
+
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+
+    @Test
+    public void getPersonsMatchingAny_zeroKeywords_returnsEmptySet() {
+        nameWordIndex.add(BENSON);
+        assertTrue(nameWordIndex.getPersonsMatchingAny(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_mixedCaseKeywords_returnsUnionOfMatches() {
+        nameWordIndex.add(BENSON);
+        nameWordIndex.add(CARL);
+        nameWordIndex.add(DANIEL);
+        assertEquals(Set.of(BENSON, DANIEL), nameWordIndex.getPersonsMatchingAny(List.of("mEIER")));
+        assertEquals(Set.of(BENSON, CARL, DANIEL), nameWordIndex.getPersonsMatchingAny(List.of("meier", "Kurz")));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_partialWord_returnsEmptySet() {
+        nameWordIndex.add(BENSON);
+        assertTrue(nameWordIndex.getPersonsMatchingAny(List.of("Mei")).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        nameWordIndex.add(BENSON);
+        nameWordIndex.add(DANIEL);
+        nameWordIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), nameWordIndex.getPersonsMatchingAny(List.of("Meier", "Benson")));
+    }
+}
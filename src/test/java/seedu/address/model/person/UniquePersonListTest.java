@@ -2,19 +2,28 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASSGROUP_PHYSICS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LEVEL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.assignment.Assignment;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -49,6 +58,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void containsName_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE.getName()));
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.containsName(ALICE.getName()));
+    }
+
+    @Test
+    public void containsName_sharedNameRemovedOnce_returnsTrue() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceWithOtherPhone);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.containsName(ALICE.getName()));
+        assertFalse(uniquePersonList.containsPhone(ALICE.getPhone()));
+        assertTrue(uniquePersonList.containsPhone(aliceWithOtherPhone.getPhone()));
+    }
+
+    @Test
+    public void containsPhone_afterSetPerson_tracksEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.containsPhone(ALICE.getPhone()));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.containsPhone(BOB.getPhone()));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -131,6 +169,26 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withLevel(VALID_LEVEL_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPerson_afterEarlierPersonRemoved_replacesCorrectPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -143,6 +201,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -166,6 +226,13 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithNonAdjacentSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withLevel(VALID_LEVEL_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -176,4 +243,79 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void addAtPosition_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(0, ALICE));
+    }
+
+    @Test
+    public void addAtPosition_afterRemoval_keepsPositionsCorrect() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(0, ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertEquals(-1, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAtPosition_noStalePositions_shiftedPersonsFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, BOB);
+
+        assertEquals(Arrays.asList(ALICE, BOB, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, uniquePersonList.indexOf(BENSON));
+        assertEquals(3, uniquePersonList.indexOf(CARL));
+
+        Person editedBenson = new PersonBuilder(BENSON).withLevel("5").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, BOB, editedBenson), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_sameList_doesNotNotifyListeners() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        List<Integer> notifications = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                notifications.add(1));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertTrue(notifications.isEmpty());
+    }
+
+    @Test
+    public void setPersons_middleChanged_replacesOnlyDifferingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.setPersons(Arrays.asList(BOB));
+        assertEquals(Arrays.asList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_equalButDistinctPerson_usesNewInstance() {
+        Person unmarked = new PersonBuilder(ALICE).withAssignments("math", "homework").build();
+        Person marked = unmarked.withAssignments(Set.of(new Assignment("homework", "math", true)));
+        uniquePersonList.setPersons(Arrays.asList(unmarked));
+
+        uniquePersonList.setPersons(Arrays.asList(marked));
+
+        assertSame(marked, uniquePersonList.asUnmodifiableObservableList().get(0));
+    }
 }
@@ -1,24 +1,36 @@
 package seedu.address.model.versionmanager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.exceptions.HistoryMismatchException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
 import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookVersionManagerTest {
 
     private ReadOnlyAddressBook addressBookState1;
     private ReadOnlyAddressBook addressBookState2;
     private ReadOnlyAddressBook addressBookState3;
+    private AddressBook addressBook;
     private AddressBookVersionManager addressBookVersionManager;
 
     @BeforeEach
@@ -29,176 +41,395 @@ public class AddressBookVersionManagerTest {
         addressBookState3 = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
                 .withPerson(CARL).build();
 
-        addressBookVersionManager = new AddressBookVersionManager(addressBookState1);
+        addressBook = new AddressBook(addressBookState1);
+        addressBookVersionManager = new AddressBookVersionManager();
+    }
+
+    /**
+     * Adds {@code person} to the address book and commits the change.
+     */
+    private void addAndCommit(Person person) {
+        addressBook.addPerson(person);
+        addressBookVersionManager.recordAdd(person);
+        addressBookVersionManager.commit();
     }
 
     @Test
     public void constructor() {
-        assertEquals(1, addressBookVersionManager.getVersionStack().size());
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
-        assertEquals(addressBookState1, addressBookVersionManager.getVersionStack().peek());
+        assertEquals(0, addressBookVersionManager.getUndoableCount());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void commit_validState_success() {
-        addressBookVersionManager.commit(addressBookState2);
+        addAndCommit(BENSON);
 
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
-        assertEquals(addressBookState2, addressBookVersionManager.getVersionStack().peek());
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void commit_afterUndo_clearsRedoStack() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.undo();
+        addAndCommit(BENSON);
+        addressBookVersionManager.undo(addressBook);
 
         // Verify redo stack has content before commit
-        assertEquals(1, addressBookVersionManager.getRedoStack().size());
+        assertEquals(1, addressBookVersionManager.getRedoableCount());
 
         // Commit should clear redo stack
-        addressBookVersionManager.commit(addressBookState3);
+        addAndCommit(CARL);
 
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
-        assertEquals(addressBookState3, addressBookVersionManager.getVersionStack().peek());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(CARL).build(), addressBook);
     }
 
     @Test
     public void undo_onlyInitialState_throwsNoPreviousCommitException() {
-        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo());
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
     }
 
     @Test
     public void undo_validUndo_success() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.commit(addressBookState3);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
 
-        ReadOnlyAddressBook result = addressBookVersionManager.undo();
+        addressBookVersionManager.undo(addressBook);
 
-        assertEquals(addressBookState2, result);
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
-        assertEquals(1, addressBookVersionManager.getRedoStack().size());
-        assertEquals(addressBookState3, addressBookVersionManager.getRedoStack().peek());
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        assertEquals(1, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void undo_multipleUndos_success() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.commit(addressBookState3);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
 
         // First undo
-        ReadOnlyAddressBook result1 = addressBookVersionManager.undo();
-        assertEquals(addressBookState2, result1);
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
 
         // Second undo
-        ReadOnlyAddressBook result2 = addressBookVersionManager.undo();
-        assertEquals(addressBookState1, result2);
-        assertEquals(1, addressBookVersionManager.getVersionStack().size());
-        assertEquals(2, addressBookVersionManager.getRedoStack().size());
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState1, addressBook);
+        assertEquals(0, addressBookVersionManager.getUndoableCount());
+        assertEquals(2, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void undo_atInitialState_throwsNoPreviousCommitException() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.undo();
+        addAndCommit(BENSON);
+        addressBookVersionManager.undo(addressBook);
 
         // Trying to undo past initial state
-        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo());
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThemToo() {
+        addAndCommit(BENSON);
+        addressBook.addPerson(CARL);
+        addressBookVersionManager.recordAdd(CARL);
+
+        addressBookVersionManager.undo(addressBook);
+
+        assertEquals(addressBookState1, addressBook);
+    }
+
+    @Test
+    public void undo_removeAndReplace_restoresOriginalOrder() {
+        addressBook = new AddressBook(addressBookState3);
+        Person editedCarl = new PersonBuilder(CARL).withLevel("5").build();
+
+        addressBookVersionManager.recordRemove(addressBook.indexOf(ALICE), ALICE);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(CARL, editedCarl);
+        addressBookVersionManager.recordReplace(CARL, editedCarl);
+        addressBookVersionManager.commit();
+
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState3, addressBook);
+
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(BENSON).withPerson(editedCarl).build(), addressBook);
+    }
+
+    @Test
+    public void undo_reset_restoresPreviousPersons() {
+        addressBookVersionManager.recordReset(List.copyOf(addressBook.getPersonList()), List.of());
+        addressBook.setPersons(List.of());
+        addressBookVersionManager.commit();
+
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState1, addressBook);
+
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(new AddressBook(), addressBook);
     }
 
     @Test
     public void redo_noUndoPerformed_throwsNoPreviousUndoException() {
-        addressBookVersionManager.commit(addressBookState2);
+        addAndCommit(BENSON);
 
-        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo());
+        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo(addressBook));
     }
 
     @Test
     public void redo_validRedo_success() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.undo();
+        addAndCommit(BENSON);
+        addressBookVersionManager.undo(addressBook);
 
-        ReadOnlyAddressBook result = addressBookVersionManager.redo();
+        addressBookVersionManager.redo(addressBook);
 
-        assertEquals(addressBookState2, result);
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void redo_multipleRedos_success() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.commit(addressBookState3);
-        addressBookVersionManager.undo();
-        addressBookVersionManager.undo();
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+        addressBookVersionManager.undo(addressBook);
+        addressBookVersionManager.undo(addressBook);
 
         // First redo
-        ReadOnlyAddressBook result1 = addressBookVersionManager.redo();
-        assertEquals(addressBookState2, result1);
-        assertEquals(2, addressBookVersionManager.getVersionStack().size());
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
 
         // Second redo
-        ReadOnlyAddressBook result2 = addressBookVersionManager.redo();
-        assertEquals(addressBookState3, result2);
-        assertEquals(3, addressBookVersionManager.getVersionStack().size());
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(addressBookState3, addressBook);
+        assertEquals(2, addressBookVersionManager.getUndoableCount());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
     }
 
     @Test
     public void redo_afterAllRedos_throwsNoPreviousUndoException() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.undo();
-        addressBookVersionManager.redo();
+        addAndCommit(BENSON);
+        addressBookVersionManager.undo(addressBook);
+        addressBookVersionManager.redo(addressBook);
 
-        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo());
+        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo(addressBook));
     }
 
     @Test
-    public void getUndoStack_modifyStack_affectsOriginalStack() {
-        // Unlike ModelManager's filtered list which is unmodifiable,
-        // the stack is directly returned and can be modified
-        addressBookVersionManager.commit(addressBookState2);
+    public void undoRedo_complexSequence_success() {
+        // Commit multiple states
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+
+        // Undo twice
+        addressBookVersionManager.undo(addressBook);
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState1, addressBook);
+
+        // Redo once
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(addressBookState2, addressBook);
 
-        int originalSize = addressBookVersionManager.getVersionStack().size();
-        addressBookVersionManager.getVersionStack().push(addressBookState3);
+        // Commit new state (should clear remaining redo)
+        addressBookVersionManager.commit();
 
-        assertEquals(originalSize + 1, addressBookVersionManager.getVersionStack().size());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
+        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo(addressBook));
+    }
+
+    @Test
+    public void commit_beyondMaxVersions_discardsOldestVersions() {
+        addressBookVersionManager = new AddressBookVersionManager(1, Long.MAX_VALUE);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState2, addressBook);
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
     }
 
     @Test
-    public void getRedoStack_modifyStack_affectsOriginalStack() {
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.undo();
+    public void commit_beyondMaxBytes_discardsOldestVersions() {
+        addAndCommit(BENSON);
+        long bytesPerVersion = addressBookVersionManager.getEstimatedBytes();
+        addressBookVersionManager = new AddressBookVersionManager(Integer.MAX_VALUE, bytesPerVersion * 3 / 2);
+        addressBook = new AddressBook(addressBookState1);
 
-        int originalSize = addressBookVersionManager.getRedoStack().size();
-        addressBookVersionManager.getRedoStack().push(addressBookState3);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
 
-        assertEquals(originalSize + 1, addressBookVersionManager.getRedoStack().size());
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        assertTrue(addressBookVersionManager.getEstimatedBytes() <= bytesPerVersion * 3 / 2);
     }
 
     @Test
-    public void undoRedo_complexSequence_success() {
-        // Commit multiple states
-        addressBookVersionManager.commit(addressBookState2);
-        addressBookVersionManager.commit(addressBookState3);
+    public void getEstimatedBytes_tracksRecordedAndDiscardedChanges() {
+        assertEquals(0, addressBookVersionManager.getEstimatedBytes());
 
-        // Undo twice
-        addressBookVersionManager.undo();
-        addressBookVersionManager.undo();
-        assertEquals(addressBookState1, addressBookVersionManager.getVersionStack().peek());
+        addressBook.addPerson(BENSON);
+        addressBookVersionManager.recordAdd(BENSON);
+        long pendingBytes = addressBookVersionManager.getEstimatedBytes();
+        assertTrue(pendingBytes > 0);
 
-        // Redo once
-        ReadOnlyAddressBook redoResult = addressBookVersionManager.redo();
-        assertEquals(addressBookState2, redoResult);
+        addressBookVersionManager.commit();
+        assertEquals(pendingBytes, addressBookVersionManager.getEstimatedBytes());
 
-        // Commit new state (should clear remaining redo)
-        ReadOnlyAddressBook newState = new AddressBookBuilder().withPerson(ALICE).build();
-        addressBookVersionManager.commit(newState);
+        // a new commit after an undo discards the redo history, and with it its footprint
+        addressBookVersionManager.undo(addressBook);
+        addressBookVersionManager.commit();
+        assertEquals(0, addressBookVersionManager.getEstimatedBytes());
+    }
+
+    @Test
+    public void commit_beyondMaxVersionsInMemory_spillsOldestVersions() {
+        SpilledVersionStoreStub spillStore = new SpilledVersionStoreStub();
+        addressBookVersionManager = new AddressBookVersionManager(Integer.MAX_VALUE, Long.MAX_VALUE, 1, spillStore);
+        addAndCommit(BENSON);
+        long bytesPerVersion = addressBookVersionManager.getEstimatedBytes();
+        addAndCommit(CARL);
+
+        assertEquals(1, spillStore.size());
+        assertEquals(2, addressBookVersionManager.getUndoableCount());
+        assertTrue(addressBookVersionManager.getEstimatedBytes() < 2 * bytesPerVersion);
+    }
+
+    @Test
+    public void undo_spilledVersions_pagedBackIn() {
+        SpilledVersionStoreStub spillStore = new SpilledVersionStoreStub();
+        addressBookVersionManager = new AddressBookVersionManager(Integer.MAX_VALUE, Long.MAX_VALUE, 1, spillStore);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState2, addressBook);
+        assertEquals(1, spillStore.size());
+
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState1, addressBook);
+        assertEquals(0, spillStore.size());
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
+
+        addressBookVersionManager.redo(addressBook);
+        addressBookVersionManager.redo(addressBook);
+        assertEquals(addressBookState3, addressBook);
+    }
+
+    @Test
+    public void commit_beyondMaxVersionsWithSpilledVersions_dropsOldestSpilledVersion() {
+        SpilledVersionStoreStub spillStore = new SpilledVersionStoreStub();
+        addressBookVersionManager = new AddressBookVersionManager(1, Long.MAX_VALUE, 0, spillStore);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState2, addressBook);
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
+    }
+
+    @Test
+    public void commit_spillFails_discardsSpilledVersions() {
+        SpilledVersionStoreStub spillStore = new SpilledVersionStoreStub();
+        addressBookVersionManager = new AddressBookVersionManager(Integer.MAX_VALUE, Long.MAX_VALUE, 1, spillStore);
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+        spillStore.isFailing = true;
+
+        addAndCommit(new PersonBuilder().withName("Daniel").build());
+
+        // only the version on the heap can still be undone
+        assertEquals(1, addressBookVersionManager.getUndoableCount());
+        addressBookVersionManager.undo(addressBook);
+        assertEquals(addressBookState3, addressBook);
+        assertThrows(NoPreviousCommitException.class, () -> addressBookVersionManager.undo(addressBook));
+    }
+
+    /**
+     * A {@code SpilledVersionStore} that keeps its versions in memory, and can be made to fail.
+     */
+    private static class SpilledVersionStoreStub implements SpilledVersionStore {
+        private final Deque<AddressBookDelta> versions = new ArrayDeque<>();
+        private boolean isFailing;
+
+        @Override
+        public void push(AddressBookDelta delta) throws IOException {
+            if (isFailing) {
+                throw new IOException("spill failed");
+            }
+            versions.push(delta);
+        }
+
+        @Override
+        public AddressBookDelta pop() throws IOException {
+            if (isFailing) {
+                throw new IOException("page in failed");
+            }
+            return versions.pop();
+        }
+
+        @Override
+        public void dropOldest() {
+            versions.removeLast();
+        }
+
+        @Override
+        public int size() {
+            return versions.size();
+        }
+
+        @Override
+        public void clear() {
+            versions.clear();
+        }
+    }
+
+    @Test
+    public void undo_versionNotMatchingAddressBook_clearsHistory() {
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+        // as if the address book had been changed without the history knowing
+        addressBook.removePerson(CARL);
+        AddressBook expected = new AddressBook(addressBook);
+
+        assertThrows(HistoryMismatchException.class, () -> addressBookVersionManager.undo(addressBook));
+
+        assertEquals(expected, addressBook);
+        assertEquals(0, addressBookVersionManager.getUndoableCount());
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
+    }
 
-        assertEquals(0, addressBookVersionManager.getRedoStack().size());
-        assertThrows(NoPreviousUndoException.class, () -> addressBookVersionManager.redo());
+    @Test
+    public void undo_versionPartlyMatchingAddressBook_addressBookUnchanged() {
+        addressBook.addPerson(BENSON);
+        addressBookVersionManager.recordAdd(BENSON);
+        addressBook.addPerson(CARL);
+        addressBookVersionManager.recordAdd(CARL);
+        addressBookVersionManager.commit();
+        // as if the address book had been changed without the history knowing
+        addressBook.removePerson(BENSON);
+        AddressBook expected = new AddressBook(addressBook);
+        ChangeSet.Builder changes = new ChangeSet.Builder();
+
+        assertThrows(HistoryMismatchException.class, () -> addressBookVersionManager.undo(addressBook, changes));
+
+        assertEquals(expected, addressBook);
+        assertTrue(changes.isEmpty());
+        assertEquals(0, addressBookVersionManager.getUndoableCount());
     }
 
+    @Test
+    public void redo_versionNotMatchingAddressBook_clearsHistory() {
+        addAndCommit(BENSON);
+        addressBookVersionManager.undo(addressBook);
+        addressBook.addPerson(BENSON);
+        AddressBook expected = new AddressBook(addressBook);
+
+        assertThrows(HistoryMismatchException.class, () -> addressBookVersionManager.redo(addressBook));
+
+        assertEquals(expected, addressBook);
+        assertEquals(0, addressBookVersionManager.getRedoableCount());
+    }
 }
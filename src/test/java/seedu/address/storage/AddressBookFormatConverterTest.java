@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.assignment.Assignment;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFile;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jsonFile = testFolder.resolve("tutortrack.json");
+        addressBook = getTypicalAddressBook();
+        addressBook.addPerson(AMY.withAssignments(Set.of(Assignment.of("Quiz", "Math", true),
+                Assignment.of("Essay", "Math", false))));
+        addressBook.addPerson(BOB);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void jsonToBinaryToJson_sameFile() throws Exception {
+        Path binaryFile = testFolder.resolve("tutortrack.bin");
+        Path convertedFile = testFolder.resolve("converted.json");
+
+        AddressBookFormatConverter.jsonToBinary(jsonFile, binaryFile);
+        AddressBookFormatConverter.binaryToJson(binaryFile, convertedFile);
+
+        // Sets are written in the same order, so the files only match if no detail, such as marks, was lost
+        assertEquals(Files.readString(jsonFile), Files.readString(convertedFile));
+    }
+
+    @Test
+    public void convertIfNeeded_otherFormat_convertedInPlace() throws Exception {
+        assertTrue(AddressBookFormatConverter.convertIfNeeded(jsonFile, AddressBookFormat.BINARY));
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(jsonFile));
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(jsonFile).readAddressBook().get()));
+
+        assertTrue(AddressBookFormatConverter.convertIfNeeded(jsonFile, AddressBookFormat.JSON));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonFile));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_toAndFromSharded_convertedInPlace() throws Exception {
+        Path segmentDirectory = ShardedAddressBookStorage.getSegmentDirectoryPath(jsonFile);
+
+        assertTrue(AddressBookFormatConverter.convertIfNeeded(jsonFile, AddressBookFormat.SHARDED));
+        assertEquals(AddressBookFormat.SHARDED, AddressBookFormatConverter.getFormat(jsonFile));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(jsonFile).readAddressBook().get()));
+
+        assertTrue(AddressBookFormatConverter.convertIfNeeded(jsonFile, AddressBookFormat.BINARY));
+        assertEquals(AddressBookFormat.BINARY, AddressBookFormatConverter.getFormat(jsonFile));
+        assertFalse(Files.exists(segmentDirectory));
+        assertEquals(addressBook, new AddressBook(new BinaryAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_sameFormatOrMissingFile_notConverted() throws Exception {
+        assertFalse(AddressBookFormatConverter.convertIfNeeded(jsonFile, AddressBookFormat.JSON));
+        assertFalse(AddressBookFormatConverter.convertIfNeeded(testFolder.resolve("missing.json"),
+                AddressBookFormat.BINARY));
+    }
+
+    @Test
+    public void jsonToBinary_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.jsonToBinary(
+                testFolder.resolve("missing.json"), testFolder.resolve("tutortrack.bin")));
+    }
+
+}
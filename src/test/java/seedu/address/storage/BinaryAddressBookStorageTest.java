@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns {@code AMY} with ten assignments, of which every third is marked.
+     */
+    private static Person getAmyWithMarkedAssignments() {
+        Set<Assignment> assignments = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            assignments.add(Assignment.of("Homework " + i, "Math", i % 3 == 0));
+        }
+        return AMY.withAssignments(assignments);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tutortrack.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Person amy = getAmyWithMarkedAssignments();
+        original.addPerson(amy);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Person readAmy = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        for (Assignment assignment : readAmy.getAssignments()) {
+            assertEquals(assignment.getAssignmentName().matches(".*[0369]$"), assignment.isMarked());
+        }
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJson() throws Exception {
+        Path binaryFile = testFolder.resolve("tutortrack.bin");
+        Path jsonFile = testFolder.resolve("tutortrack.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(getAmyWithMarkedAssignments());
+
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+
+        assertTrue(Files.size(binaryFile) * 4 < Files.size(jsonFile));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tutortrack.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tutortrack.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 3));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_trailingData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("tutortrack.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length + 1));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class IndexedAddressBookReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutortrack.json");
+    }
+
+    private IndexedAddressBookReader open(int maxCachedPersons) throws DataLoadingException {
+        return IndexedAddressBookReader.open(filePath, maxCachedPersons).get();
+    }
+
+    @Test
+    public void open_missingFile_emptyResult() throws Exception {
+        assertEquals(Optional.empty(), IndexedAddressBookReader.open(filePath, 1));
+    }
+
+    @Test
+    public void open_savedAddressBook_personsReadInOrder() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        IndexedAddressBookReader reader = open(IndexedAddressBookReader.DEFAULT_MAX_CACHED_PERSONS);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), List.copyOf(reader.getPersonList()));
+        assertTrue(Files.exists(IndexedAddressBookReader.getIndexFilePath(filePath)));
+    }
+
+    @Test
+    public void open_indexOfOtherFile_indexRebuilt() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        open(1);
+        AddressBook changed = new AddressBook();
+        changed.addPerson(HOON);
+        storage.saveAddressBook(changed);
+
+        assertEquals(List.of(HOON), List.copyOf(open(1).getPersonList()));
+    }
+
+    @Test
+    public void open_invalidIndex_indexRebuilt() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(IndexedAddressBookReader.getIndexFilePath(filePath), "TTIX".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(getTypicalAddressBook().getPersonList(), List.copyOf(open(1).getPersonList()));
+    }
+
+    @Test
+    public void open_compressedFile_throwsDataLoadingException() throws Exception {
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> open(1));
+    }
+
+    @Test
+    public void getPersonList_cacheFull_leastRecentlyReadPersonReadAgain() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        List<Person> persons = open(1).getPersonList();
+
+        Person first = persons.get(0);
+        assertSame(first, persons.get(0));
+        persons.get(1);
+
+        assertNotSame(first, persons.get(0));
+        assertEquals(ALICE, persons.get(0));
+    }
+
+    @Test
+    public void open_invalidPerson_throwsDataLoadingException() throws Exception {
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json"), filePath);
+
+        assertThrows(DataLoadingException.class, () -> open(1));
+        assertFalse(Files.exists(IndexedAddressBookReader.getIndexFilePath(filePath)));
+    }
+
+    @Test
+    public void load_unchangedFile_sameAddressBook() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTypicalAddressBook(), open(1).load());
+    }
+
+    @Test
+    public void release_afterLoad_personsNoLongerRead() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        IndexedAddressBookReader reader = open(1);
+        reader.load();
+
+        reader.release();
+
+        assertThrows(IllegalStateException.class, () -> reader.getPersonList().get(0));
+    }
+
+    @Test
+    public void load_personsRemovedFromFile_throwsDataLoadingException() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        IndexedAddressBookReader reader = open(1);
+        storage.saveAddressBook(new AddressBook());
+
+        assertThrows(DataLoadingException.class, reader::load);
+    }
+
+}
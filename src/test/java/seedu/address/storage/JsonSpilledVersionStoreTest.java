@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.AddressBookDelta;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonSpilledVersionStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonSpilledVersionStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new JsonSpilledVersionStore(testFolder.resolve("data"));
+    }
+
+    private static AddressBookDelta deltaAdding(Person person) {
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.recordAdd(person);
+        return delta;
+    }
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonSpilledVersionStore(null));
+    }
+
+    @Test
+    public void push_noVersions_createsNoFile() {
+        assertEquals(0, store.size());
+        assertFalse(store.getFilePath().isPresent());
+    }
+
+    @Test
+    public void pushAndPop_allKindsOfChanges_roundTrip() throws IOException {
+        Person editedCarl = new PersonBuilder(CARL).withLevel("5").build();
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.recordAdd(ALICE);
+        delta.recordRemove(1, BENSON);
+        delta.recordReplace(CARL, editedCarl);
+        delta.recordReset(List.of(ALICE, BENSON), List.of(editedCarl));
+
+        store.push(delta);
+        assertEquals(1, store.size());
+        assertTrue(Files.exists(store.getFilePath().get()));
+
+        AddressBookDelta pagedIn = store.pop();
+        assertEquals(delta.getChanges(), pagedIn.getChanges());
+        assertEquals(delta.getEstimatedBytes(), pagedIn.getEstimatedBytes());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void pop_multipleVersions_returnsMostRecentFirstAndTruncatesFile() throws IOException {
+        store.push(deltaAdding(ALICE));
+        long sizeAfterFirst = Files.size(store.getFilePath().get());
+        store.push(deltaAdding(BENSON));
+
+        assertEquals(deltaAdding(BENSON).getChanges(), store.pop().getChanges());
+        assertEquals(sizeAfterFirst, Files.size(store.getFilePath().get()));
+
+        // versions spilled after paging in are written in place of the paged in one
+        store.push(deltaAdding(CARL));
+        assertEquals(deltaAdding(CARL).getChanges(), store.pop().getChanges());
+        assertEquals(deltaAdding(ALICE).getChanges(), store.pop().getChanges());
+    }
+
+    @Test
+    public void dropOldest_keepsMoreRecentVersions() throws IOException {
+        store.push(deltaAdding(ALICE));
+        store.push(deltaAdding(BENSON));
+
+        store.dropOldest();
+
+        assertEquals(1, store.size());
+        assertEquals(deltaAdding(BENSON).getChanges(), store.pop().getChanges());
+    }
+
+    @Test
+    public void clear_emptiesStoreAndFile() throws IOException {
+        store.push(deltaAdding(ALICE));
+        store.push(deltaAdding(BENSON));
+
+        store.clear();
+
+        assertEquals(0, store.size());
+        assertEquals(0, Files.size(store.getFilePath().get()));
+    }
+
+    @Test
+    public void pop_corruptedFile_throwsIoException() throws IOException {
+        store.push(deltaAdding(ALICE));
+        Files.writeString(store.getFilePath().get(), "{\"changes\":[{\"kind\":\"MOVE\"}]}\n");
+
+        assertThrows(IOException.class, () -> store.pop());
+    }
+
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.versionmanager.AddressBookVersionManager;
+import seedu.address.model.versionmanager.exceptions.NoPreviousCommitException;
+import seedu.address.model.versionmanager.exceptions.NoPreviousUndoException;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonUndoJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path journalFile;
+    private AddressBook addressBook;
+    private AddressBookVersionManager versions;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        journalFile = JsonUndoJournal.getJournalFilePath(testFolder.resolve("data").resolve("tutortrack.json"));
+        addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        versions = openVersions();
+    }
+
+    /**
+     * Opens the journal for the current address book, as a new session would.
+     */
+    private AddressBookVersionManager openVersions() throws IOException {
+        JsonUndoJournal journal = new JsonUndoJournal(journalFile, List.copyOf(addressBook.getPersonList()));
+        return new AddressBookVersionManager(Integer.MAX_VALUE, Long.MAX_VALUE, 1, journal);
+    }
+
+    private void addAndCommit(Person person) {
+        addressBook.addPerson(person);
+        versions.recordAdd(person);
+        versions.commit();
+    }
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonUndoJournal(null, List.of()));
+    }
+
+    @Test
+    public void constructor_missingFile_startsNewJournal() throws IOException {
+        assertEquals(0, versions.getUndoableCount());
+        assertTrue(Files.exists(journalFile));
+    }
+
+    @Test
+    public void constructor_existingJournal_restoresUndoableVersions() throws IOException {
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+
+        versions = openVersions();
+        assertEquals(2, versions.getUndoableCount());
+        assertEquals(0, versions.getRedoableCount());
+
+        versions.undo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(), addressBook);
+        versions.undo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+        assertThrows(NoPreviousCommitException.class, () -> versions.undo(addressBook));
+
+        versions.redo(addressBook);
+        versions.redo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build(),
+                addressBook);
+    }
+
+    @Test
+    public void constructor_undoneVersions_notRestoredForRedo() throws IOException {
+        addAndCommit(BENSON);
+        addAndCommit(CARL);
+        versions.undo(addressBook);
+
+        versions = openVersions();
+
+        assertEquals(1, versions.getUndoableCount());
+        assertThrows(NoPreviousUndoException.class, () -> versions.redo(addressBook));
+        versions.undo(addressBook);
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), addressBook);
+    }
+
+    @Test
+    public void constructor_journalDoesNotMatchDataFile_startsNewJournal() throws IOException {
+        addAndCommit(BENSON);
+        addressBook = new AddressBook();
+
+        versions = openVersions();
+
+        assertEquals(0, versions.getUndoableCount());
+    }
+
+    @Test
+    public void constructor_lastCommitNotSaved_startsNewJournal() throws IOException {
+        addAndCommit(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withLevel("5").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        versions.recordReplace(BENSON, editedBenson);
+        versions.commit();
+
+        // the data file still holds the persons from before the edit, which are as many as after it
+        addressBook.setPerson(editedBenson, BENSON);
+        versions = openVersions();
+
+        assertEquals(0, versions.getUndoableCount());
+    }
+
+    @Test
+    public void constructor_personsInOtherOrder_restoresUndoableVersions() throws IOException {
+        addAndCommit(BENSON);
+        addressBook = new AddressBookBuilder().withPerson(BENSON).withPerson(ALICE).build();
+
+        versions = openVersions();
+
+        assertEquals(1, versions.getUndoableCount());
+    }
+
+    @Test
+    public void reset_journalWithVersions_startsNewJournal() throws IOException {
+        addAndCommit(BENSON);
+        JsonUndoJournal journal = new JsonUndoJournal(journalFile, List.copyOf(addressBook.getPersonList()));
+
+        journal.reset(addressBook.getPersonList());
+
+        assertEquals(0, journal.size());
+        assertEquals(0, openVersions().getUndoableCount());
+    }
+
+    @Test
+    public void constructor_incompleteLastRecord_ignoresRecord() throws IOException {
+        addAndCommit(BENSON);
+        Files.writeString(journalFile, "C 3 {\"changes\":[", StandardOpenOption.APPEND);
+
+        versions = openVersions();
+
+        assertEquals(1, versions.getUndoableCount());
+        addAndCommit(CARL);
+        versions = openVersions();
+        assertEquals(2, versions.getUndoableCount());
+    }
+
+    @Test
+    public void constructor_corruptedJournal_startsNewJournal() throws IOException {
+        Files.createDirectories(journalFile.getParent());
+        Files.writeString(journalFile, "not a journal\n");
+
+        versions = openVersions();
+
+        assertEquals(0, versions.getUndoableCount());
+        assertTrue(Files.readString(journalFile).startsWith("K "));
+    }
+
+    @Test
+    public void appendCommit_manyStaleRecords_compactsJournal() throws IOException {
+        addAndCommit(BENSON);
+        long sizeWithOneVersion = Files.size(journalFile);
+
+        for (int i = 0; i < 200; i++) {
+            versions.undo(addressBook);
+            versions.redo(addressBook);
+        }
+        addAndCommit(CARL);
+
+        // the undo and redo records have been compacted away
+        assertTrue(Files.size(journalFile) < 3 * sizeWithOneVersion);
+
+        versions = openVersions();
+        assertEquals(2, versions.getUndoableCount());
+    }
+
+}
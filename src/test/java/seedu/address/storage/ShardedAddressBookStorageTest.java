@@ -0,0 +1,180 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path segmentDirectory;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutortrack.json");
+        segmentDirectory = ShardedAddressBookStorage.getSegmentDirectoryPath(filePath);
+
+        // Persons of different class groups are interleaved, so the order of the persons spans segments
+        addressBook = new AddressBook();
+        String[][] classGroups = {{"Math"}, {}, {"Physics", "Chemistry"}, {"Math", "Physics"}, {"Chemistry"}};
+        for (int i = 0; i < 10; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).withPhone("9000000" + i)
+                    .withClassGroups(classGroups[i % classGroups.length]).build());
+        }
+        getTypicalAddressBook().getPersonList().forEach(addressBook::addPerson);
+    }
+
+    private Set<String> getSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(segmentDirectory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(addressBook);
+
+        // Math, Chemistry, and persons without a class group
+        assertEquals(3, getSegmentFiles().size());
+        assertTrue(ShardedAddressBookStorage.isManifestFile(filePath));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOnlyItsSegment() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<String> filesBefore = getSegmentFiles();
+
+        Person student = addressBook.getPersonList().get(0);
+        addressBook.setPerson(student, new PersonBuilder(student).withLevel("5").build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> unchangedFiles = new HashSet<>(getSegmentFiles());
+        unchangedFiles.retainAll(filesBefore);
+        assertEquals(2, unchangedFiles.size());
+        assertEquals(3, getSegmentFiles().size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_rewritesOnlyChangedSegments() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Set<String> filesBefore = getSegmentFiles();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        readBack.removePerson(ALICE);
+        storage.saveAddressBook(readBack);
+
+        Set<String> unchangedFiles = new HashSet<>(getSegmentFiles());
+        unchangedFiles.retainAll(filesBefore);
+        assertEquals(2, unchangedFiles.size());
+        assertEquals(readBack, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_emptiedSegment_deleted() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.getPersonList().stream().filter(person -> person.getClassGroups().size() == 0).toList()
+                .forEach(addressBook::removePerson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(2, getSegmentFiles().size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_segmentsCompressed() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, true);
+
+        storage.saveAddressBook(addressBook);
+
+        for (String file : getSegmentFiles()) {
+            assertTrue(FileUtil.isCompressed(segmentDirectory.resolve(file)));
+        }
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertFalse(ShardedAddressBookStorage.isManifestFile(filePath));
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Files.delete(segmentDirectory.resolve(getSegmentFiles().iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_sizeNotMatchingSegment_throwsDataLoadingException() throws Exception {
+        new ShardedAddressBookStorage(filePath).saveAddressBook(addressBook);
+        JsonShardManifest manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+        JsonAdaptedShard shard = manifest.getShards().get(0);
+
+        // as if a person was missing from the first segment
+        List<JsonAdaptedShard> shards = new ArrayList<>(manifest.getShards());
+        shards.set(0, new JsonAdaptedShard(shard.getClassGroup(), shard.getFile(), shard.getSize() + 1));
+        JsonUtil.saveJsonFile(new JsonShardManifest(manifest.getGeneration(), shards), filePath);
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_personInsertedMidList_onlyItsSegmentRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<String> filesBefore = getSegmentFiles();
+
+        addressBook.addPerson(1, new PersonBuilder().withName("Inserted").withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> unchangedFiles = new HashSet<>(getSegmentFiles());
+        unchangedFiles.retainAll(filesBefore);
+        assertEquals(filesBefore.size() - 1, unchangedFiles.size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+}
@@ -2,9 +2,14 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +17,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -61,6 +69,62 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind_readsSavedData() throws Exception {
+        storageManager = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TxtCommandHistoryStorage(getTempFilePath("hist")), new WriteBehindService());
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+
+        // later changes do not affect the data being saved
+        AddressBook expected = getTypicalAddressBook();
+        original.removePerson(ALICE);
+
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(expected, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFails_reportsFailure() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        storageManager = new StorageManager(failingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TxtCommandHistoryStorage(getTempFilePath("hist")), new WriteBehindService());
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        storageManager.setWriteFailureHandler(failures::add);
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        storageManager.flush();
+
+        assertEquals(List.of(failure), failures);
+    }
+
+    @Test
+    public void saveAddressBookChanges_writeBehind_changesSavedTogether() throws Exception {
+        WriteAheadLogAddressBookStorage logStorage = new WriteAheadLogAddressBookStorage(
+                new JsonAddressBookStorage(getTempFilePath("ab")), Long.MAX_VALUE);
+        storageManager = new StorageManager(logStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TxtCommandHistoryStorage(getTempFilePath("hist")), new WriteBehindService());
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+
+        Person editedAlice = new PersonBuilder(ALICE).withLevel("5").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storageManager.saveAddressBookChanges(addressBook,
+                new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+        addressBook.removePerson(BENSON);
+        storageManager.saveAddressBookChanges(addressBook, new ChangeSet.Builder().remove(BENSON).build());
+
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 
 /**
@@ -84,6 +85,19 @@ public class TxtCommandHistoryStorageTest {
         assertEquals(commands, result.get().getHistory());
     }
 
+    @Test
+    public void saveAndReadCommandHistory_compressed_success() throws IOException {
+        TxtCommandHistoryStorage compressedStorage = new TxtCommandHistoryStorage(historyFile, true);
+        CommandHistory original = new CommandHistory(List.of("list", "add n/John Doe", "list"));
+
+        compressedStorage.saveCommandHistory(original);
+
+        assertTrue(FileUtil.isCompressed(historyFile));
+        assertEquals(original.getHistory(), compressedStorage.readCommandHistory().get().getHistory());
+        // Files are read whichever way the storage saves them
+        assertEquals(original.getHistory(), storage.readCommandHistory().get().getHistory());
+    }
+
     @Test
     public void saveCommandHistory_nullHistory_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> storage.saveCommandHistory(null));
@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeSet;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WriteAheadLogAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person editedAlice = new PersonBuilder(ALICE).withLevel("5").build();
+
+    private Path filePath;
+    private Path logFile;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutortrack.json");
+        logFile = WriteAheadLogAddressBookStorage.getLogFilePath(filePath);
+        addressBook = getTypicalAddressBook();
+    }
+
+    private WriteAheadLogAddressBookStorage createStorage(long maxLogBytes) {
+        return new WriteAheadLogAddressBookStorage(new JsonAddressBookStorage(filePath), maxLogBytes,
+                Duration.ofDays(1));
+    }
+
+    private ReadOnlyAddressBook read() throws DataLoadingException {
+        return createStorage(Long.MAX_VALUE).readAddressBook().get();
+    }
+
+    /**
+     * Edits Alice, removes Benson and adds Hoon, and saves each change to {@code storage}.
+     */
+    private void makeChanges(WriteAheadLogAddressBookStorage storage) throws IOException {
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().remove(BENSON).build());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().add(HOON).build());
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterSnapshot_appendsToLogOnly() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        makeChanges(storage);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(logFile).size());
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_singleEdit_logsOnlyThatPerson() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+
+        assertTrue(Files.size(logFile) < Files.size(filePath) / 2);
+    }
+
+    @Test
+    public void saveAddressBookChanges_noSnapshotYet_savesSnapshot() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+
+        assertFalse(Files.exists(logFile));
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_logFull_compactsIntoSnapshot() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(0);
+        storage.saveAddressBook(addressBook);
+
+        makeChanges(storage);
+
+        assertFalse(Files.exists(logFile));
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_logDue_compactsIntoSnapshot() throws Exception {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(
+                new JsonAddressBookStorage(filePath), Long.MAX_VALUE, Duration.ZERO);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+        assertTrue(Files.exists(logFile));
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().remove(BENSON).build());
+
+        assertFalse(Files.exists(logFile));
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_mostPersonsChanged_savesSnapshot() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook cleared = new AddressBook();
+        storage.saveAddressBookChanges(cleared,
+                new ChangeSet.Builder().reset(addressBook.getPersonList(), cleared.getPersonList()).build());
+
+        assertFalse(Files.exists(logFile));
+        assertEquals(cleared, new AddressBook(read()));
+    }
+
+    @Test
+    public void compactAddressBook_logWithChanges_emptiesLog() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+        makeChanges(storage);
+
+        storage.compactAddressBook(addressBook);
+
+        assertFalse(Files.exists(logFile));
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void readAddressBook_logOntoSnapshotWithItsChanges_sameAddressBook() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+        makeChanges(storage);
+        byte[] log = Files.readAllBytes(logFile);
+
+        // as if the application crashed after writing a new snapshot, but before emptying the log
+        storage.saveAddressBook(addressBook);
+        Files.write(logFile, log);
+
+        assertEquals(addressBook, new AddressBook(read()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_discarded() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+        long completeLength = Files.size(logFile);
+        Files.write(logFile, "{\"added\":[".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new AddressBook(read()));
+        assertEquals(completeLength, Files.size(logFile));
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_replayStopsThere() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().replace(ALICE, editedAlice).build());
+        AddressBook expected = new AddressBook(addressBook);
+        Files.write(logFile, "not a change\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().remove(BENSON).build());
+
+        WriteAheadLogAddressBookStorage reopened = createStorage(Long.MAX_VALUE);
+        assertEquals(expected, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save replaces the log with a snapshot, as changes appended to it would not be replayed
+        reopened.saveAddressBookChanges(expected, new ChangeSet.Builder().build());
+        assertFalse(Files.exists(logFile));
+        assertEquals(expected, new AddressBook(read()));
+    }
+
+    @Test
+    public void readAddressBook_personInsertedMidList_positionKept() throws Exception {
+        WriteAheadLogAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // as when undoing the deletion of Benson, who was second in the list
+        addressBook.addPerson(1, BENSON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().add(BENSON).build());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, new ChangeSet.Builder().add(HOON).build());
+
+        assertEquals(addressBook.getPersonList(), read().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_logWithoutSnapshot_logDeleted() throws Exception {
+        Files.write(logFile, "{}\n".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(Optional.empty(), createStorage(Long.MAX_VALUE).readAddressBook());
+        assertFalse(Files.exists(logFile));
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class WriteBehindServiceTest {
+
+    private final WriteBehindService service = new WriteBehindService();
+    private final List<String> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void submit_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> service.submit(null, () -> {}));
+        assertThrows(NullPointerException.class, () -> service.submit("key", null));
+    }
+
+    @Test
+    public void flush_afterSubmit_writesAreMade() {
+        service.submit("a", () -> written.add("a"));
+        service.submit("b", () -> written.add("b"));
+
+        service.flush();
+
+        assertEquals(List.of("a", "b"), written);
+    }
+
+    @Test
+    public void submit_burstUnderSameKey_coalescedIntoLatestWrite() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service.submit("file", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            written.add("first");
+        });
+        started.await();
+
+        // submitted while the first write is in progress, so only the latest is made
+        service.submit("file", () -> written.add("second"));
+        service.submit("file", () -> written.add("third"));
+        release.countDown();
+        service.flush();
+
+        assertEquals(List.of("first", "third"), written);
+    }
+
+    @Test
+    public void submit_replacingWrite_madeAfterEarlierWrites() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        service.submit("blocker", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await();
+
+        service.submit("file", () -> written.add("old file"));
+        service.submit("log", () -> written.add("log"));
+        service.submit("file", () -> written.add("new file"));
+        release.countDown();
+        service.flush();
+
+        assertEquals(List.of("log", "new file"), written);
+    }
+
+    @Test
+    public void submit_withinCommitWindow_coalescedIntoLatestWrite() {
+        WriteBehindService slowService = new WriteBehindService(Duration.ofMinutes(1));
+        slowService.submit("file", () -> written.add("first"));
+        slowService.submit("file", () -> written.add("second"));
+        assertTrue(written.isEmpty());
+
+        slowService.flush();
+
+        assertEquals(List.of("second"), written);
+    }
+
+    @Test
+    public void submit_withoutFlush_madeAfterCommitWindow() throws InterruptedException {
+        CountDownLatch made = new CountDownLatch(1);
+        service.submit("file", made::countDown);
+
+        assertTrue(made.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void submit_failingWrite_reportsFailureAndContinues() {
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        service.setFailureHandler(failures::add);
+        IOException failure = new IOException("disk full");
+
+        service.submit("a", () -> {
+            throw failure;
+        });
+        service.submit("b", () -> written.add("b"));
+        service.flush();
+
+        assertEquals(List.of(failure), failures);
+        assertEquals(List.of("b"), written);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}